@@ -0,0 +1,123 @@
+package com.example.nasda.bench;
+
+import com.example.nasda.domain.StickerCategoryEntity;
+import com.example.nasda.domain.StickerEntity;
+import com.example.nasda.dto.sticker.StickerCategoryResponseDTO;
+import com.example.nasda.dto.sticker.StickerResponseDTO;
+import com.example.nasda.mapper.StickerMapper;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스티커 패널 응답 변환 비교: 기존 ModelMapper(STRICT, 필드 접근) vs StickerMapper.
+ * data.sql 과 같은 규모(카테고리 7개, 스티커 210개)로 목록 한 번 변환하는 비용을 잽니다.
+ * 기존 설정(STRICT)은 stickerCategory.name → categoryName 을 채우지 못했으므로, 같은 일을 하도록
+ * ModelMapper 쪽에 그 매핑만 명시적으로 추가해 둡니다 (setUp 에서 두 결과가 같은지 확인).
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 을 보면 됩니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StickerMappingBenchmark {
+
+    private static final int CATEGORY_COUNT = 7;
+    private static final int STICKERS_PER_CATEGORY = 30;
+
+    private List<StickerCategoryEntity> categories;
+    private List<StickerEntity> stickers;
+
+    private ModelMapper modelMapper;
+    private StickerMapper stickerMapper;
+
+    @Setup
+    public void setUp() {
+        categories = new ArrayList<>();
+        stickers = new ArrayList<>();
+
+        int stickerId = 1;
+        for (int c = 1; c <= CATEGORY_COUNT; c++) {
+            StickerCategoryEntity category = StickerCategoryEntity.builder()
+                    .stickerCategoryId(c)
+                    .name("category-" + c)
+                    .isActive(true)
+                    .build();
+            categories.add(category);
+
+            for (int i = 0; i < STICKERS_PER_CATEGORY; i++, stickerId++) {
+                stickers.add(StickerEntity.builder()
+                        .stickerId(stickerId)
+                        .stickerCategory(category)
+                        .stickerName("sticker-" + stickerId)
+                        // 로컬 경로: StickerMapper 의 원격 URL → /stickers/img/{id} 치환이 일어나지 않아 두 매퍼의 일이 같음
+                        .stickerImageUrl("/images/stickers/" + stickerId + ".png")
+                        .build());
+            }
+        }
+
+        // 교체 전 RootConfig 설정 그대로
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE)
+                .setFieldMatchingEnabled(true)
+                .setMatchingStrategy(MatchingStrategies.STRICT);
+        modelMapper.typeMap(StickerEntity.class, StickerResponseDTO.class)
+                .addMappings(m -> m.map(src -> src.getStickerCategory().getName(), StickerResponseDTO::setCategoryName));
+
+        stickerMapper = new StickerMapper();
+
+        List<StickerResponseDTO> viaModelMapper = stickersModelMapper();
+        List<StickerResponseDTO> viaStickerMapper = stickersStickerMapper();
+        for (int i = 0; i < viaStickerMapper.size(); i++) {
+            StickerResponseDTO a = viaModelMapper.get(i);
+            StickerResponseDTO b = viaStickerMapper.get(i);
+            if (!Objects.equals(a.getStickerId(), b.getStickerId())
+                    || !Objects.equals(a.getStickerName(), b.getStickerName())
+                    || !Objects.equals(a.getStickerImageUrl(), b.getStickerImageUrl())
+                    || !Objects.equals(a.getCategoryName(), b.getCategoryName())) {
+                throw new IllegalStateException("두 매퍼의 결과가 다릅니다: stickerId=" + b.getStickerId());
+            }
+        }
+    }
+
+    @Benchmark
+    public List<StickerResponseDTO> stickersModelMapper() {
+        return stickers.stream()
+                .map(entity -> modelMapper.map(entity, StickerResponseDTO.class))
+                .toList();
+    }
+
+    @Benchmark
+    public List<StickerResponseDTO> stickersStickerMapper() {
+        return stickerMapper.toDtoList(stickers);
+    }
+
+    @Benchmark
+    public List<StickerCategoryResponseDTO> categoriesModelMapper() {
+        return categories.stream()
+                .map(entity -> modelMapper.map(entity, StickerCategoryResponseDTO.class))
+                .toList();
+    }
+
+    @Benchmark
+    public List<StickerCategoryResponseDTO> categoriesStickerMapper() {
+        return stickerMapper.toCategoryDtoList(categories);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.nasda.config;
+
+import com.example.nasda.domain.CommentEntity;
+import com.example.nasda.domain.PostDecorationEntity;
+import com.example.nasda.domain.PostImageEntity;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * IDENTITY → SEQUENCE 로 바꾼 엔티티의 시퀀스를 기존 AUTO_INCREMENT 데이터 뒤로 맞춤.
+ * ddl-auto 가 만든 시퀀스는 1부터 시작하므로, 요청을 받기 전(싱글톤 생성 직후) 한 번 실행합니다.
+ * MariaDB SETVAL 은 현재 값보다 작은 값이면 무시하므로 매 기동마다 돌려도 안전합니다.
+ * 시퀀스 이름과 allocationSize 는 엔티티 @Id 의 @SequenceGenerator 에서 그대로 읽습니다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class IdSequenceAligner implements SmartInitializingSingleton {
+
+    private static final List<Target> TARGETS = List.of(
+            new Target(PostImageEntity.class, "post_images", "image_id"),
+            new Target(PostDecorationEntity.class, "post_decorations", "decoration_id"),
+            new Target(CommentEntity.class, "comments", "comment_id")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (Target t : TARGETS) {
+            SequenceGenerator generator = t.generator();
+            Long maxId = jdbcTemplate.queryForObject(
+                    "select coalesce(max(" + t.idColumn() + "), 0) from " + t.table(), Long.class);
+            // pooled 최적화: 다음 nextval(= 현재 + allocationSize)의 앞 allocationSize 개를 쓰므로
+            // 현재 값을 max + allocationSize 로 두면 max 다음부터
+            long value = maxId + generator.allocationSize();
+            jdbcTemplate.queryForObject(
+                    "select setval(" + generator.sequenceName() + ", " + value + ")", Long.class);
+            log.debug("시퀀스 정렬: {} >= {}", generator.sequenceName(), value);
+        }
+    }
+
+    private record Target(Class<?> entity, String table, String idColumn) {
+
+        SequenceGenerator generator() {
+            return Arrays.stream(entity.getDeclaredFields())
+                    .filter(f -> f.isAnnotationPresent(Id.class))
+                    .map(f -> f.getAnnotation(SequenceGenerator.class))
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException(
+                            "@SequenceGenerator 가 없는 엔티티: " + entity.getSimpleName()));
+        }
+    }
+}
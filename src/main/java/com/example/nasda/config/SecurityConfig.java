@@ -2,8 +2,10 @@ package com.example.nasda.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -22,6 +24,9 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         //관리자 주소
                         .requestMatchers("/admin/**").hasRole("ADMIN")
+                        // 운영 지표(캐시 hit/miss 등)는 관리자만
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // 1. 유저 관련 모든 경로 (/user/login, /user/signup, /user/mypage 등) 허용
                         .requestMatchers("/", "/user/**").permitAll()
                         // 2. 게시글 관련 모든 경로 (/posts/create, /posts/view 등) 허용
@@ -50,6 +55,14 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // 업로드 이미지/스티커 이미지는 공개 자원이고 세션/인증 정보를 쓰지 않으므로 필터 체인 자체를 건너뜀
+    // (이미지 요청마다 SecurityContext 로드, 헤더 필터 등을 돌지 않음 → UploadServlet 이 캐시 헤더를 직접 설정)
+    @Bean
+    public WebSecurityCustomizer publicAssets() {
+        return web -> web.ignoring().requestMatchers(HttpMethod.GET, "/uploads/**", "/stickers/img/**", "/stickers/atlas/**")
+                .requestMatchers(HttpMethod.HEAD, "/uploads/**", "/stickers/img/**", "/stickers/atlas/**");
+    }
+
     // ⭐ 이 메서드가 있어야 UserService의 PasswordEncoder 에러가 해결됩니다.
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -1,25 +1,23 @@
 package com.example.nasda.config;
 
-import org.springframework.beans.factory.annotation.Value;
+import com.example.nasda.controller.UploadServlet;
+import com.example.nasda.service.FileStorageService;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-import java.nio.file.Path;
-import java.nio.file.Paths;
-
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
-    @Value("${app.upload.dir:uploads}")
-    private String uploadDir;
-
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        Path path = Paths.get(uploadDir).toAbsolutePath().normalize();
-        String location = path.toUri().toString(); // file:/C:/nasda-uploads/
-
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations(location);
+    // ✅ /uploads/** 는 리소스 핸들러 대신 전용 서블릿 (Range, immutable 캐시, sendfile)
+    // 서블릿 매핑이 DispatcherServlet("/")보다 구체적이므로 MVC를 거치지 않음
+    @Bean
+    public ServletRegistrationBean<UploadServlet> uploadServlet(FileStorageService fileStorageService) {
+        ServletRegistrationBean<UploadServlet> registration =
+                new ServletRegistrationBean<>(new UploadServlet(fileStorageService), "/uploads/*");
+        registration.setName("uploadServlet");
+        registration.setLoadOnStartup(1);
+        return registration;
     }
 }
@@ -0,0 +1,26 @@
+package com.example.nasda.controller;
+
+import com.example.nasda.service.ContentVersionService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 조건부 GET 공통 처리.
+ * true면 이미 304가 세팅된 것이므로 컨트롤러는 본문을 만들지 말고 null을 반환하면 됩니다.
+ */
+public final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    public static boolean notModified(WebRequest request, HttpServletResponse response,
+                                      ContentVersionService.Version version) {
+        if (version == null) return false;
+
+        // 브라우저가 매번 재검증하도록 (Spring Security 기본값 no-store를 대신함)
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        return request.checkNotModified(version.etag(), version.lastModified());
+    }
+}
@@ -1,17 +1,25 @@
 package com.example.nasda.controller;
 
+import com.example.nasda.dto.post.HomeFeedDto;
 import com.example.nasda.dto.post.HomePostDto;
 import com.example.nasda.service.AuthUserService;
+import com.example.nasda.service.ContentVersionService;
 import com.example.nasda.service.PostService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Map;
 
 @Controller
 @RequiredArgsConstructor
@@ -19,26 +27,25 @@ public class MainController {
 
     private final PostService postService;
     private final AuthUserService authUserService;
+    private final ContentVersionService contentVersionService;
 
-    // ✅ 메인 페이지: 처음에는 size개만 서버 렌더링
+    // ✅ 메인 페이지: 처음에는 size개만 서버 렌더링 (이후는 커서로 이어서 로드)
     @GetMapping("/")
     public String index(
-            @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "12") int size,
             @RequestParam(required = false) String category,
             Model model
     ) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<HomePostDto> postsPage = postService.getHomePostsByCategory(category, pageable);
+        HomeFeedDto feed = postService.getHomeFeed(category, null, size);
 
-        model.addAttribute("posts", postsPage.getContent());
+        model.addAttribute("posts", feed.items());
 
         String nickname = authUserService.getCurrentNicknameOrNull();
         model.addAttribute("username", nickname == null ? "게스트" : nickname);
 
         model.addAttribute("category", (category == null || category.isBlank()) ? "전체" : category);
-        model.addAttribute("hasNext", postsPage.hasNext());
-        model.addAttribute("nextPage", postsPage.getNumber() + 1);
+        model.addAttribute("hasNext", feed.hasNext());
+        model.addAttribute("nextCursor", feed.nextCursor());
         model.addAttribute("size", size);
 
         return "index";
@@ -50,9 +57,36 @@ public class MainController {
     public Page<HomePostDto> apiPosts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "12") int size,
-            @RequestParam(required = false) String category
+            @RequestParam(required = false) String category,
+            WebRequest webRequest,
+            HttpServletResponse response
     ) {
+        // ✅ 피드가 그대로면 304 (조회/직렬화 생략)
+        if (ConditionalGet.notModified(webRequest, response, contentVersionService.feed())) return null;
+
         Pageable pageable = PageRequest.of(page, size);
         return postService.getHomePostsByCategory(category, pageable);
     }
+
+    // ✅ 무한 스크롤 API (커서 모드): /api/posts?cursor=  (첫 요청은 빈 값, 이후 nextCursor 전달)
+    @GetMapping(value = "/api/posts", params = "cursor")
+    @ResponseBody
+    public HomeFeedDto apiPostsByCursor(
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(required = false) String category,
+            WebRequest webRequest,
+            HttpServletResponse response
+    ) {
+        if (ConditionalGet.notModified(webRequest, response, contentVersionService.feed())) return null;
+
+        return postService.getHomeFeed(category, cursor, size);
+    }
+
+    // ✅ 잘못된/조작된 커서(HomeFeedCursor.decode) 등 요청 값 오류는 500 대신 400
+    // (같은 요청 안에서 응답 → 비로그인 요청이 /error 로 넘어가 로그인 페이지로 가지 않음)
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+    }
 }
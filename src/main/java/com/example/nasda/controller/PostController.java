@@ -1,19 +1,23 @@
 package com.example.nasda.controller;
 
 import com.example.nasda.domain.CategoryEntity;
+import com.example.nasda.domain.PostCardEntity;
 import com.example.nasda.domain.PostEntity;
 import com.example.nasda.dto.post.PostCreateRequestDto;
-import com.example.nasda.dto.post.PostViewDto;
 import com.example.nasda.service.AuthUserService;
 import com.example.nasda.service.CategoryService;
 import com.example.nasda.service.CommentService;
+import com.example.nasda.service.ContentVersionService;
 import com.example.nasda.service.PostImageService;
+import com.example.nasda.service.PostPageService;
 import com.example.nasda.service.PostService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -27,6 +31,8 @@ public class PostController {
     private final CommentService commentService;
     private final PostImageService postImageService;
     private final AuthUserService authUserService;
+    private final ContentVersionService contentVersionService;
+    private final PostPageService postPageService;
 
     @GetMapping("/posts")
     public String postsRedirect() {
@@ -49,61 +55,30 @@ public class PostController {
             @PathVariable("postId") String postIdStr,
             @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size", defaultValue = "5") int size,
-            Model model
+            Model model,
+            WebRequest webRequest,
+            HttpServletResponse response
     ) {
         try {
             // /posts/create 와 충돌 방지
             if ("create".equals(postIdStr)) return "redirect:/posts/create";
 
             Integer postId = Integer.parseInt(postIdStr);
-            PostEntity entity = postService.get(postId);
-
-            // 1. 로그인 유저 및 본인 확인 로직 (작성자가 null일 경우 대비)
-            Integer currentUserId = authUserService.getCurrentUserIdOrNull();
-            boolean isOwner = currentUserId != null
-                    && entity.getUser() != null
-                    && currentUserId.equals(entity.getUser().getUserId());
-
-            // 2. 이미지 정보 가져오기
-            List<String> imageUrls = postImageService.getImageUrls(postId);
-            List<PostViewDto.ImageDto> imageItems = postService.getImageItems(postId);
-
-            // ✅ 3. 작성자(Author) 정보 안전하게 생성 (Null 처리 핵심)
-            PostViewDto.AuthorDto authorDto;
-            if (entity.getUser() != null) {
-                authorDto = new PostViewDto.AuthorDto(entity.getUser().getNickname());
-            } else {
-                // 작성자가 탈퇴하여 null인 경우 처리
-                authorDto = new PostViewDto.AuthorDto("(알 수 없음)");
-            }
-
-            // 4. 카테고리 이름 안전하게 처리
-            String categoryName = (entity.getCategory() != null)
-                    ? entity.getCategory().getCategoryName()
-                    : "미분류";
-
-            // 5. 화면에 전달할 DTO 조립
-            PostViewDto post = new PostViewDto(
-                    entity.getPostId(),
-                    entity.getTitle(),
-                    entity.getDescription() != null ? entity.getDescription() : "",
-                    categoryName,
-                    authorDto,
-                    imageUrls,
-                    imageItems,
-                    entity.getCreatedAt(),
-                    isOwner
-            );
-
-            // 6. 댓글 페이지 처리
-            var commentsPage = commentService.getCommentsPage(postId, page, size, currentUserId);
-
-            // 7. 모델에 데이터 담기
-            model.addAttribute("post", post);
-            model.addAttribute("comments", commentsPage.getContent());
-            model.addAttribute("commentsPage", commentsPage);
-
-            String nickname = authUserService.getCurrentNicknameOrNull();
+
+            // ✅ 글/댓글/보는 사람이 그대로면 304 (엔티티 로딩·DTO 조립 생략)
+            String loginId = authUserService.getLoginIdOrNull();
+            ContentVersionService.Version version =
+                    contentVersionService.post(postId, loginId, page, size);
+            if (ConditionalGet.notModified(webRequest, response, version)) return null;
+
+            // ✅ 글/이미지/댓글/로그인 유저를 동시에 조회해서 한 번에 조립
+            PostPageService.PostPage postPage = postPageService.load(postId, loginId, page, size);
+
+            model.addAttribute("post", postPage.post());
+            model.addAttribute("comments", postPage.comments().getContent());
+            model.addAttribute("commentsPage", postPage.comments());
+
+            String nickname = postPage.nickname();
             model.addAttribute("username", nickname == null ? "게스트" : nickname);
 
             return "post/view";
@@ -186,7 +161,7 @@ public class PostController {
         Integer userId = authUserService.getCurrentUserIdOrNull();
         if (userId == null) return "redirect:/user/login";
 
-        Page<PostEntity> paging = postService.findByUserId(userId, page);
+        Page<PostCardEntity> paging = postService.findByUserId(userId, page);
         model.addAttribute("paging", paging);
 
         String nickname = authUserService.getCurrentNicknameOrNull();
@@ -1,12 +1,17 @@
 package com.example.nasda.controller;
 
+import com.example.nasda.dto.post.HomeFeedDto;
 import com.example.nasda.dto.post.HomePostDto;
+import com.example.nasda.dto.search.SuggestionDto;
 import com.example.nasda.service.PostService;
+import com.example.nasda.service.search.SearchSuggester;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 import java.util.List;
 
@@ -15,15 +20,24 @@ import java.util.List;
 public class SearchController {
 
     private final PostService postService;
+    private final SearchSuggester searchSuggester;
 
     @GetMapping("/search")
     public String search(@RequestParam String keyword,
                          @RequestParam(defaultValue = "content") String type,
+                         @RequestParam(defaultValue = "0") int page,
+                         @RequestParam(defaultValue = "30") int size,
                          Model model) {
 
-        List<HomePostDto> posts = postService.searchHomePosts(keyword, type);
+        Page<HomePostDto> result = postService.searchHomePosts(keyword, type, page, size);
 
-        model.addAttribute("posts", posts);
+        HomeFeedDto feed = toFeed(result);
+
+        model.addAttribute("posts", feed.items());
+        model.addAttribute("searchPage", result);
+        model.addAttribute("hasNext", feed.hasNext());
+        model.addAttribute("nextCursor", feed.nextCursor());
+        model.addAttribute("size", result.getSize());
         model.addAttribute("keyword", keyword);
         model.addAttribute("type", type);
         model.addAttribute("pageTitle", "검색 결과");
@@ -31,4 +45,27 @@ public class SearchController {
         // ✅ index.html 재사용 (홈과 같은 카드 UI)
         return "index";
     }
+
+    // ✅ 검색 무한 스크롤 API: 홈 피드와 같은 모양 (nextCursor = 다음 페이지 번호)
+    @GetMapping("/api/search")
+    @ResponseBody
+    public HomeFeedDto apiSearch(@RequestParam String keyword,
+                                 @RequestParam(defaultValue = "content") String type,
+                                 @RequestParam(defaultValue = "0") int page,
+                                 @RequestParam(defaultValue = "30") int size) {
+        return toFeed(postService.searchHomePosts(keyword, type, page, size));
+    }
+
+    // ✅ 검색창 자동완성 (제목/작성자/카테고리, 인기순)
+    @GetMapping("/api/search/suggest")
+    @ResponseBody
+    public List<SuggestionDto> suggest(@RequestParam(defaultValue = "") String q,
+                                       @RequestParam(defaultValue = "8") int limit) {
+        return searchSuggester.suggest(q, limit);
+    }
+
+    private static HomeFeedDto toFeed(Page<HomePostDto> result) {
+        String nextPage = result.hasNext() ? String.valueOf(result.getNumber() + 1) : null;
+        return new HomeFeedDto(result.getContent(), nextPage, result.hasNext());
+    }
 }
@@ -0,0 +1,231 @@
+package com.example.nasda.controller;
+
+import com.example.nasda.service.FileStorageService;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * /uploads/* 전용 서빙 (DispatcherServlet, Spring Security 체인을 거치지 않음 → WebConfig, SecurityConfig).
+ * 저장소가 원격(S3 등)이면 예전 /uploads/ URL을 저장소 URL로 영구 리다이렉트만 합니다.
+ * - 파일 이름이 내용 해시(또는 예전 UUID)라 한 번 만든 URL의 내용은 바뀌지 않음 → 1년 immutable 캐시
+ * - ETag 는 이름의 해시를 그대로 사용 (파일을 다시 읽지 않음), If-None-Match 면 304
+ * - Range(단일 구간) 지원: 206 / 416
+ * - 본문은 Tomcat sendfile 로 넘기고, 지원하지 않는 컨테이너면 FileChannel.transferTo 로 복사
+ */
+public class UploadServlet extends HttpServlet {
+
+    // /uploads/{sha256}.png, /uploads/{sha256}_w400.jpg, 내용 주소 도입 전 /uploads/{uuid}.JPG
+    private static final Pattern IMMUTABLE_NAME = Pattern.compile(
+            "^([0-9a-f]{64}|[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12})(_w\\d+)?\\.[A-Za-z0-9]+$");
+    private static final Pattern SINGLE_RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    private static final String IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+    private static final String REVALIDATE = CacheControl.noCache().cachePublic().getHeaderValue();
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg",
+            "jpeg", "image/jpeg",
+            "png", "image/png",
+            "gif", "image/gif",
+            "webp", "image/webp");
+
+    // Tomcat sendfile (org.apache.catalina.Globals 의 상수와 같은 값)
+    static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // 이보다 작은 파일은 sendfile 준비 비용이 더 큼 (Tomcat 기본 sendfileSize 48KB)
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    private final FileStorageService fileStorageService;
+
+    public UploadServlet(FileStorageService fileStorageService) {
+        this.fileStorageService = fileStorageService;
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        serve(request, response, true);
+    }
+
+    @Override
+    protected void doHead(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        serve(request, response, false);
+    }
+
+    private void serve(HttpServletRequest request, HttpServletResponse response, boolean body) throws IOException {
+        String pathInfo = request.getPathInfo();
+        String url = pathInfo == null ? null : "/uploads" + pathInfo;
+        Path file = url == null ? null : fileStorageService.pathOf(url);
+        if (file == null) {
+            String moved = url == null ? null : fileStorageService.publicUrl(url);
+            if (moved != null && !moved.equals(url)) {
+                response.setStatus(HttpServletResponse.SC_MOVED_PERMANENTLY);
+                response.setHeader(HttpHeaders.LOCATION, moved);
+                response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE);
+                return;
+            }
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!attrs.isRegularFile()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String name = file.getFileName().toString();
+        long length = attrs.size();
+        long lastModified = attrs.lastModifiedTime().toMillis();
+        Matcher immutable = IMMUTABLE_NAME.matcher(name);
+        String etag = etag(immutable, length, lastModified);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, immutable.matches() ? IMMUTABLE : REVALIDATE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        if (notModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(contentType(name));
+
+        long[] range = null;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && ifRangeMatches(request.getHeader(HttpHeaders.IF_RANGE), etag)) {
+            range = parseRange(rangeHeader, length);
+            if (range == UNSATISFIABLE) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+        }
+
+        long start = 0;
+        long end = length; // exclusive
+        if (range != null) {
+            start = range[0];
+            end = range[1] + 1;
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + range[1] + "/" + length);
+        }
+        response.setContentLengthLong(end - start);
+        if (!body || end == start) return;
+
+        // 컨테이너가 응답을 마친 뒤 커널에서 바로 소켓으로 보냄 (본문을 여기서 쓰지 않음)
+        if (end - start >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end);
+            return;
+        }
+
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position < end) {
+                long sent = in.transferTo(position, end - position, out);
+                if (sent <= 0) break; // 그 사이 파일이 줄어든 경우
+                position += sent;
+            }
+        }
+    }
+
+    // 내용 해시 이름이면 해시가 곧 강한 ETag, 아니면 크기 + 수정 시각
+    private static String etag(Matcher immutable, long length, long lastModified) {
+        if (immutable.matches()) {
+            return "\"" + immutable.group(1) + (immutable.group(2) != null ? immutable.group(2) : "") + "\"";
+        }
+        return "W/\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+    }
+
+    private static boolean notModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || weakless(tag).equals(weakless(etag))) return true;
+            }
+            return false;
+        }
+        long ifModifiedSince;
+        try {
+            ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        // 헤더 날짜는 초 단위
+        return ifModifiedSince != -1 && lastModified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    // If-Range 가 없거나 현재 ETag 와 (강하게) 같을 때만 부분 응답
+    private static boolean ifRangeMatches(String ifRange, String etag) {
+        if (ifRange == null) return true;
+        return !etag.startsWith("W/") && ifRange.trim().equals(etag);
+    }
+
+    private static String weakless(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    static final long[] UNSATISFIABLE = new long[0];
+
+    /**
+     * "bytes=0-99", "bytes=100-", "bytes=-500" → {시작, 끝(포함)}.
+     * 여러 구간이나 형식이 틀린 헤더는 null (무시하고 전체 200), 범위 밖이면 UNSATISFIABLE.
+     */
+    static long[] parseRange(String header, long length) {
+        Matcher m = SINGLE_RANGE.matcher(header.trim());
+        if (!m.matches()) return null;
+        String from = m.group(1);
+        String to = m.group(2);
+        try {
+            if (from.isEmpty()) {
+                if (to.isEmpty()) return null;
+                long suffix = Long.parseLong(to);
+                if (suffix == 0 || length == 0) return UNSATISFIABLE;
+                return new long[]{Math.max(0, length - suffix), length - 1};
+            }
+            long start = Long.parseLong(from);
+            long end = to.isEmpty() ? length - 1 : Math.min(Long.parseLong(to), length - 1);
+            if (!to.isEmpty() && Long.parseLong(to) < start) return null;
+            if (start >= length) return UNSATISFIABLE;
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String contentType(String name) {
+        int dot = name.lastIndexOf('.');
+        String ext = dot > -1 ? name.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+        return CONTENT_TYPES.getOrDefault(ext, "application/octet-stream");
+    }
+}
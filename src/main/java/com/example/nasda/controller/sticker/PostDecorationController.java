@@ -1,12 +1,16 @@
 package com.example.nasda.controller.sticker;
 
+import com.example.nasda.controller.ConditionalGet;
 import com.example.nasda.dto.sticker.PostDecorationRequestDTO;
 import com.example.nasda.dto.sticker.PostDecorationResponseDTO;
+import com.example.nasda.service.ContentVersionService;
 import com.example.nasda.service.sticker.PostDecorationService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,6 +22,7 @@ import java.util.List;
 public class PostDecorationController {
 
     private final PostDecorationService postDecorationService;
+    private final ContentVersionService contentVersionService;
 
     /**
      * 1. 스티커 일괄 저장
@@ -38,7 +43,14 @@ public class PostDecorationController {
      * 2. 꾸미기 조회 (이미지별)
      */
     @GetMapping("/image/{imageId}")
-    public List<PostDecorationResponseDTO> getDecorations(@PathVariable Integer imageId) {
+    public List<PostDecorationResponseDTO> getDecorations(@PathVariable Integer imageId,
+                                                          WebRequest webRequest,
+                                                          HttpServletResponse response) {
+        // ✅ 스티커 편집기 폴링: 바뀐 게 없으면 304
+        if (ConditionalGet.notModified(webRequest, response, contentVersionService.decorationsByImage(imageId))) {
+            return null;
+        }
+
         log.debug("🔍 [꾸미기 조회] 이미지 ID={} 에 부착된 스티커 목록 조회", imageId);
 
         List<PostDecorationResponseDTO> decorations = postDecorationService.getDecorationsByImageId(imageId);
@@ -85,7 +97,13 @@ public class PostDecorationController {
      * 페이지 로드시 해당 게시글의 모든 이미지에 붙은 스티커를 한꺼번에 가져옵니다.
      */
     @GetMapping("/post/{postId}")
-    public List<PostDecorationResponseDTO> getDecorationsByPostId(@PathVariable Integer postId) {
+    public List<PostDecorationResponseDTO> getDecorationsByPostId(@PathVariable Integer postId,
+                                                                  WebRequest webRequest,
+                                                                  HttpServletResponse response) {
+        if (ConditionalGet.notModified(webRequest, response, contentVersionService.decorationsByPost(postId))) {
+            return null;
+        }
+
         log.debug("🔍 [게시글 전체 조회] 게시글 ID={} 에 부착된 모든 스티커 조회", postId);
         // 서비스에도 이 메서드를 구현해야 합니다.
         return postDecorationService.getDecorationsByPostId(postId);
@@ -1,13 +1,20 @@
 package com.example.nasda.controller.sticker;
 
+import com.example.nasda.controller.ConditionalGet;
+import com.example.nasda.dto.sticker.StickerAtlasDTO;
 import com.example.nasda.dto.sticker.StickerRequestDTO;
 import com.example.nasda.dto.sticker.StickerResponseDTO;
+import com.example.nasda.service.ContentVersionService;
+import com.example.nasda.service.sticker.StickerAtlasService;
 import com.example.nasda.service.sticker.StickerService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
 
 @Log4j2
@@ -18,6 +25,7 @@ import java.util.List;
 public class StickerController {
 
     private final StickerService stickerService;
+    private final StickerAtlasService stickerAtlasService;
 
     /**
      * 1. 스티커 등록
@@ -57,6 +65,26 @@ public class StickerController {
         return ResponseEntity.ok(stickers);
     }
 
+    /**
+     * 2-1. 카테고리 스프라이트 아틀라스 (팔레트용: 이미지 1장 + 스티커별 좌표)
+     * [Postman 설정]
+     * - Method: GET
+     * - URL: http://localhost:8080/api/stickers/categories/1/atlas
+     */
+    @GetMapping("/categories/{categoryId}/atlas")
+    public StickerAtlasDTO getAtlas(@PathVariable Integer categoryId,
+                                    WebRequest webRequest,
+                                    HttpServletResponse response) throws IOException {
+        StickerAtlasDTO atlas = stickerAtlasService.getAtlas(categoryId);
+
+        // ✅ 스티커가 그대로면 같은 ETag → 304 (이미지 URL은 내용 해시라 따로 재검증하지 않음)
+        if (ConditionalGet.notModified(webRequest, response,
+                new ContentVersionService.Version(stickerAtlasService.etag(atlas), -1))) {
+            return null;
+        }
+        return atlas;
+    }
+
     /**
      * 3. 스티커 삭제
      * [Postman 설정]
@@ -0,0 +1,63 @@
+package com.example.nasda.controller.sticker;
+
+import com.example.nasda.service.sticker.StickerAtlasService;
+import com.example.nasda.service.sticker.StickerImageCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 스티커 이미지 프록시 (StickerImageCache)와 카테고리 아틀라스 (StickerAtlasService). 외부 호스트 대신 여기서 받음.
+ * 스티커 id 의 이미지, 내용 해시 이름의 아틀라스는 바뀌지 않으므로 1년 immutable,
+ * If-None-Match 는 ResponseEntity 의 ETag 로 304 처리.
+ */
+@RestController
+@RequiredArgsConstructor
+public class StickerImageController {
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final StickerImageCache stickerImageCache;
+    private final StickerAtlasService stickerAtlasService;
+
+    @GetMapping(StickerImageCache.URL_PREFIX + "{stickerId}")
+    public ResponseEntity<Resource> image(@PathVariable Integer stickerId) throws IOException {
+        StickerImageCache.CachedImage image = stickerImageCache.image(stickerId);
+        if (image == null) {
+            // 받기 실패는 잠시 뒤 다시 시도할 수 있으므로 캐시하지 않음 (sticker.js 는 onerror 로 숨김)
+            return ResponseEntity.notFound().cacheControl(CacheControl.noStore()).build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(IMMUTABLE)
+                .eTag(image.name())
+                .contentType(MediaType.parseMediaType(image.contentType()))
+                .header("X-Content-Type-Options", "nosniff")
+                .body(new FileSystemResource(image.file()));
+    }
+
+    @GetMapping(StickerAtlasService.URL_PREFIX + "{name:.+}")
+    public ResponseEntity<Resource> atlas(@PathVariable String name) {
+        Path file = stickerAtlasService.atlasFile(name);
+        if (file == null) {
+            return ResponseEntity.notFound().cacheControl(CacheControl.noStore()).build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(IMMUTABLE)
+                .eTag(name)
+                .contentType(MediaType.IMAGE_PNG)
+                .header("X-Content-Type-Options", "nosniff")
+                .body(new FileSystemResource(file));
+    }
+}
@@ -19,8 +19,10 @@ public class CommentEntity {
 
 
 
+    // 시퀀스 id: 더미 데이터/일괄 입력 시 insert 배치 가능 (IdSequenceAligner)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_seq")
+    @SequenceGenerator(name = "comments_seq", sequenceName = "comments_seq", allocationSize = 50)
     @Column(name = "comment_id")
     private Integer commentId;
 
@@ -0,0 +1,93 @@
+package com.example.nasda.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록(홈 카드/검색/마이페이지)용 읽기 모델.
+ * posts + users + categories + post_images 조인 결과를 글 1건당 1행으로 미리 펼쳐 둡니다.
+ * PostCardService가 글/이미지/댓글/닉네임 변경과 같은 트랜잭션에서 갱신합니다.
+ */
+@Entity
+@Table(name = "post_cards",
+        indexes = {
+                @Index(name = "idx_post_cards_created_id", columnList = "created_at, post_id"),
+                @Index(name = "idx_post_cards_category_created_id", columnList = "category_name, created_at, post_id"),
+                @Index(name = "idx_post_cards_user_created_id", columnList = "user_id, created_at, post_id")
+        })
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostCardEntity {
+
+    // posts.post_id 그대로 사용 (자동 생성 X)
+    @Id
+    @Column(name = "post_id")
+    private Integer postId;
+
+    @Column(name = "user_id")
+    private Integer userId;
+
+    private Integer categoryId;
+
+    @Column(nullable = false)
+    private String title;
+
+    private String nickname;
+
+    private String categoryName;
+
+    // 대표 이미지 (sortOrder 가장 작은 것)
+    private String imageUrl;
+
+    // 대표 이미지의 카드용 썸네일 (생성 전에는 null)
+    private String thumbnailUrl;
+
+    // 대표 이미지 원본 크기/대표색/blurhash (카드 자리와 플레이스홀더를 이미지 도착 전에 그림)
+    private Integer imageWidth;
+    private Integer imageHeight;
+
+    @Column(length = 7)
+    private String dominantColor;
+
+    @Column(length = 32)
+    private String blurHash;
+
+    @Builder.Default
+    private Integer commentCount = 0;
+
+    // 대표 이미지/썸네일이 바뀔 때마다 +1 (posts.updated_at 은 그대로이므로 상세 ETag 에 따로 반영)
+    @Builder.Default
+    private Integer imageVersion = 0;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // posts.updated_at 그대로
+    private LocalDateTime updatedAt;
+
+    public void updatePost(CategoryEntity category, String title, LocalDateTime updatedAt) {
+        this.categoryId = category.getCategoryId();
+        this.categoryName = category.getCategoryName();
+        this.title = title;
+        this.updatedAt = updatedAt;
+    }
+
+    public void changeImage(PostImageEntity image) {
+        this.imageUrl = image != null ? image.getImageUrl() : null;
+        this.thumbnailUrl = image != null ? image.getCardUrl() : null;
+        this.imageWidth = image != null ? image.getWidth() : null;
+        this.imageHeight = image != null ? image.getHeight() : null;
+        this.dominantColor = image != null ? image.getDominantColor() : null;
+        this.blurHash = image != null ? image.getBlurHash() : null;
+        this.imageVersion = (imageVersion != null ? imageVersion : 0) + 1;
+    }
+
+    // 카드에 실제로 보여줄 이미지 (썸네일 → 없으면 원본)
+    public String getCardImageUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
+    }
+}
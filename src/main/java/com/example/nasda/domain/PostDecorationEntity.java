@@ -15,8 +15,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString
 public class PostDecorationEntity {
+    // 스티커 일괄 저장(saveAll)이 한 번의 배치 insert가 되도록 시퀀스 id (IdSequenceAligner)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_decorations_seq")
+    @SequenceGenerator(name = "post_decorations_seq", sequenceName = "post_decorations_seq", allocationSize = 50)
     private Integer decorationId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -5,6 +5,8 @@ import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Table(name = "posts")
@@ -31,6 +33,12 @@ public class PostEntity {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    // ✅ 상세 화면 fetch plan 용 (읽기 전용 역방향, 저장은 PostImageRepository로)
+    @OneToMany(mappedBy = "post")
+    @OrderBy("sortOrder asc, imageId asc")
+    @Builder.Default
+    private List<PostImageEntity> images = new ArrayList<>();
+
     @Builder.Default
     private Integer viewCount = 0;
 
@@ -47,6 +55,18 @@ public class PostEntity {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    // ✅ FULLTEXT 검색용 토큰 (SearchAnalyzer 2-gram, PostService 가 저장/수정 시 계산해 넣음)
+    @Column(name = "search_title", columnDefinition = "TEXT")
+    private String searchTitle;
+
+    @Column(name = "search_body", columnDefinition = "MEDIUMTEXT")
+    private String searchBody;
+
+    public void indexForSearch(String searchTitle, String searchBody) {
+        this.searchTitle = searchTitle;
+        this.searchBody = searchBody;
+    }
+
     public void update(CategoryEntity category, String title, String description) {
         this.category = category;
         this.title = title;
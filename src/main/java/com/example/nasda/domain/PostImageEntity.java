@@ -1,17 +1,20 @@
 package com.example.nasda.domain;
 
 import jakarta.persistence.*;
-        import lombok.*;
+import lombok.*;
 
 @Entity
-@Table(name = "post_images")
+@Table(name = "post_images",
+        indexes = @Index(name = "idx_post_images_image_url", columnList = "image_url"))
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostImageEntity {
+    // IDENTITY는 insert마다 키를 돌려받아야 해서 배치가 꺼짐 → 시퀀스에서 50개씩 미리 받아 씀 (IdSequenceAligner)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_images_seq")
+    @SequenceGenerator(name = "post_images_seq", sequenceName = "post_images_seq", allocationSize = 50)
     private Integer imageId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -26,4 +29,46 @@ public class PostImageEntity {
 
     @Builder.Default
     private Boolean isRepresentative = false;
-}
\ No newline at end of file
+
+    // ✅ 썸네일 (ThumbnailService가 업로드 후 백그라운드에서 채움, 준비 전에는 null → 원본 사용)
+    @Column(name = "card_url")
+    private String cardUrl;   // 홈/검색 카드용 (가로 400)
+
+    @Column(name = "view_url")
+    private String viewUrl;   // 상세 화면용 (가로 1080)
+
+    // ✅ 화면 배치용 정보 (업로드 시 헤더/축소 샘플에서 읽음, 못 읽었으면 null → 썸네일 작업에서 재시도)
+    private Integer width;
+    private Integer height;
+
+    @Column(name = "dominant_color", length = 7)
+    private String dominantColor; // #rrggbb
+
+    @Column(name = "blur_hash", length = 32)
+    private String blurHash;
+
+    // ✅ 크기/색 정보를 끝내 못 읽은 파일 (형식 미지원/손상/원본 없음) → 기동 백필에서 다시 큐에 넣지 않음
+    @Column(name = "metadata_failed")
+    @Builder.Default
+    private Boolean metadataFailed = false;
+
+    public void describe(Integer width, Integer height, String dominantColor, String blurHash) {
+        this.width = width;
+        this.height = height;
+        this.dominantColor = dominantColor;
+        this.blurHash = blurHash;
+    }
+
+    public void markMetadataFailed() {
+        this.metadataFailed = true;
+    }
+
+    public void thumbnailsReady(String cardUrl, String viewUrl) {
+        this.cardUrl = cardUrl;
+        this.viewUrl = viewUrl;
+    }
+
+    public String getViewUrlOrOriginal() {
+        return viewUrl != null ? viewUrl : imageUrl;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.nasda.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 파일 1개 = 내용(SHA-256) 1개.
+ * 같은 바이트는 /uploads/{sha256}.{ext} 한 파일을 여러 post_images가 같이 쓰고,
+ * ref_count가 0이 되면 FileStorageService가 파일(+썸네일)을 지웁니다.
+ * 삽입/증감은 동시 업로드를 위해 StoredFileRepository의 native upsert / bulk update로만 합니다.
+ */
+@Entity
+@Table(name = "stored_files")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoredFileEntity {
+
+    @Id
+    @Column(name = "sha256", length = 64)
+    private String sha256;
+
+    @Column(nullable = false)
+    private String url;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(name = "content_type", nullable = false, length = 50)
+    private String contentType;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
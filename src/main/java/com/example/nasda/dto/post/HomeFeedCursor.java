@@ -0,0 +1,37 @@
+package com.example.nasda.dto.post;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 홈 피드 무한스크롤 커서: 마지막으로 내려준 카드의 (createdAt, postId).
+ * 클라이언트에는 불투명한 문자열(Base64 URL-safe)로 전달합니다.
+ */
+public record HomeFeedCursor(LocalDateTime createdAt, Integer postId) {
+
+    public static HomeFeedCursor from(HomePostDto last) {
+        return new HomeFeedCursor(last.createdAt(), last.id());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 값이면 첫 페이지(null)
+    public static HomeFeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new HomeFeedCursor(
+                    LocalDateTime.parse(raw.substring(0, sep)),
+                    Integer.valueOf(raw.substring(sep + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
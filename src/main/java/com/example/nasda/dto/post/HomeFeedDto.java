@@ -0,0 +1,10 @@
+package com.example.nasda.dto.post;
+
+import java.util.List;
+
+// ✅ 커서 모드 /api/posts 응답 (Page 직렬화 대신 필요한 값만)
+public record HomeFeedDto(
+        List<HomePostDto> items,
+        String nextCursor,
+        boolean hasNext
+) { }
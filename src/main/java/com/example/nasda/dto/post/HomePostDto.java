@@ -1,7 +1,15 @@
 package com.example.nasda.dto.post;
 
+import java.time.LocalDateTime;
+
 public record HomePostDto(
         Integer id,
         String title,
-        String imageUrl
-) { }
\ No newline at end of file
+        String imageUrl,
+        LocalDateTime createdAt, // ✅ 커서(keyset) 페이징 기준값
+        // ✅ 대표 이미지 원본 크기/대표색/blurhash (모르면 null → 화면은 기존처럼 고정 높이)
+        Integer imageWidth,
+        Integer imageHeight,
+        String dominantColor,
+        String blurHash
+) { }
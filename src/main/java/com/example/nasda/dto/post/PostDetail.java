@@ -0,0 +1,60 @@
+package com.example.nasda.dto.post;
+
+import com.example.nasda.domain.PostEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 게시글 상세 화면용 읽기 DTO
+// PostRepository.findDetailByPostId 한 번으로 읽은 결과에서 imageUrls / imageItems 를 같이 만듭니다.
+// 이미지는 상세용 썸네일(view_url), 아직 없으면 원본.
+public record PostDetail(
+        Integer postId,
+        String title,
+        String description,
+        String categoryName,
+        Integer authorId,
+        String authorNickname,
+        LocalDateTime createdAt,
+        List<PostViewDto.ImageDto> imageItems
+) {
+
+    public static PostDetail from(PostEntity post) {
+        List<PostViewDto.ImageDto> items = post.getImages().stream()
+                .map(img -> new PostViewDto.ImageDto(img.getImageId(), img.getViewUrlOrOriginal(), img.getSortOrder(),
+                        img.getWidth(), img.getHeight(), img.getDominantColor(), img.getBlurHash()))
+                .toList();
+
+        return new PostDetail(
+                post.getPostId(),
+                post.getTitle(),
+                post.getDescription() != null ? post.getDescription() : "",
+                post.getCategory() != null ? post.getCategory().getCategoryName() : "미분류",
+                post.getUser() != null ? post.getUser().getUserId() : null,
+                // 작성자가 탈퇴하여 null인 경우 처리
+                post.getUser() != null ? post.getUser().getNickname() : "(알 수 없음)",
+                post.getCreatedAt(),
+                items
+        );
+    }
+
+    public List<String> imageUrls() {
+        return imageItems.stream().map(PostViewDto.ImageDto::getUrl).toList();
+    }
+
+    public PostViewDto toView(Integer viewerId) {
+        boolean isOwner = viewerId != null && viewerId.equals(authorId);
+
+        return new PostViewDto(
+                postId,
+                title,
+                description,
+                categoryName,
+                new PostViewDto.AuthorDto(authorNickname),
+                imageUrls(),
+                imageItems,
+                createdAt,
+                isOwner
+        );
+    }
+}
@@ -38,5 +38,9 @@ public class PostViewDto {
         private Integer id;        // PostImageEntity.imageId
         private String url;        // PostImageEntity.imageUrl
         private Integer sortOrder; // PostImageEntity.sortOrder
+        private Integer width;     // 원본 크기 (모르면 null)
+        private Integer height;
+        private String dominantColor;
+        private String blurHash;
     }
 }
@@ -0,0 +1,33 @@
+package com.example.nasda.dto.search;
+
+import com.example.nasda.domain.PostEntity;
+
+import java.time.LocalDateTime;
+
+// 검색 인덱스에 들어가는 글 한 건 (본문 포함, 카드에는 없는 필드)
+public record SearchDocument(
+        Integer postId,
+        Integer userId,
+        String title,
+        String description,
+        String nickname,
+        String categoryName,
+        LocalDateTime createdAt
+) {
+
+    public static SearchDocument from(PostEntity post) {
+        return new SearchDocument(
+                post.getPostId(),
+                post.getUser() != null ? post.getUser().getUserId() : null,
+                post.getTitle(),
+                post.getDescription(),
+                post.getUser() != null ? post.getUser().getNickname() : null,
+                post.getCategory() != null ? post.getCategory().getCategoryName() : null,
+                post.getCreatedAt()
+        );
+    }
+
+    public SearchDocument withNickname(String nickname) {
+        return new SearchDocument(postId, userId, title, description, nickname, categoryName, createdAt);
+    }
+}
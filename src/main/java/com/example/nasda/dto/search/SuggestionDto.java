@@ -0,0 +1,5 @@
+package com.example.nasda.dto.search;
+
+// 자동완성 한 줄: 보여줄 문자열 + /search 의 type 값 (title / author / category)
+public record SuggestionDto(String text, String type) {
+}
@@ -0,0 +1,9 @@
+package com.example.nasda.dto.sticker;
+
+import java.time.LocalDateTime;
+
+// ✅ 꾸미기 목록의 버전 (조건부 GET용): 개수 + 마지막 수정 시각
+public record DecorationVersionDto(
+        Long count,
+        LocalDateTime lastUpdatedAt
+) { }
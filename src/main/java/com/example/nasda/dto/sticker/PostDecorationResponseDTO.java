@@ -1,6 +1,7 @@
 package com.example.nasda.dto.sticker;
 
 import com.example.nasda.domain.PostDecorationEntity;
+import com.example.nasda.service.sticker.StickerImageCache;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,7 +16,7 @@ public class PostDecorationResponseDTO {
     private Integer decorationId;
     private Integer postImageId;
 
-    // 스티커 정보
+    // 스티커 정보 (외부 이미지는 /stickers/img/{id} 프록시 주소)
     private Integer stickerId;
     private String stickerImageUrl;
 
@@ -32,7 +33,8 @@ public class PostDecorationResponseDTO {
                 .decorationId(entity.getDecorationId())
                 .postImageId(entity.getPostImage().getImageId())
                 .stickerId(entity.getSticker().getStickerId())
-                .stickerImageUrl(entity.getSticker().getStickerImageUrl())
+                .stickerImageUrl(StickerImageCache.proxyUrl(entity.getSticker().getStickerId(),
+                        entity.getSticker().getStickerImageUrl()))
                 .posX(entity.getPosX())
                 .posY(entity.getPosY())
                 .scale(entity.getScale())
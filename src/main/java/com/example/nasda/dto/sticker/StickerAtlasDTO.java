@@ -0,0 +1,37 @@
+package com.example.nasda.dto.sticker;
+
+import lombok.*;
+
+import java.util.List;
+
+// ✅ 카테고리 스프라이트: 아틀라스 이미지(내용 해시 URL) + 스티커별 좌표 (StickerAtlasService)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StickerAtlasDTO {
+    private Integer stickerCategoryId;
+
+    // /stickers/atlas/{sha256}.png, 스티커가 하나도 안 들어갔으면 null
+    private String imageUrl;
+    private Integer width;
+    private Integer height;
+    private Integer cellSize;
+
+    private List<Sprite> sprites;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Sprite {
+        private Integer stickerId;
+        private String stickerName;
+        // 캔버스에 붙일 때 쓰는 개별 이미지 주소
+        private String stickerImageUrl;
+
+        // 아틀라스 안 왼쪽 위 좌표 (이미지를 못 구해 빠졌으면 null → 개별 이미지로 표시)
+        private Integer x;
+        private Integer y;
+    }
+}
@@ -3,7 +3,7 @@ package com.example.nasda.dto.sticker;
 import lombok.*;
 
 @Getter
-@Setter // ModelMapper가 값을 넣으려면 Setter 혹은 Field Access 설정 필요
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
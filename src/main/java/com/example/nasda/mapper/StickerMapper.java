@@ -0,0 +1,53 @@
+package com.example.nasda.mapper;
+
+import com.example.nasda.domain.StickerCategoryEntity;
+import com.example.nasda.domain.StickerEntity;
+import com.example.nasda.dto.sticker.StickerCategoryResponseDTO;
+import com.example.nasda.dto.sticker.StickerResponseDTO;
+import com.example.nasda.service.sticker.StickerImageCache;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class StickerMapper {
+
+    /**
+     * 스티커 엔티티를 응답 DTO로 변환
+     * (stickerCategory.name -> categoryName, 카테고리는 EntityGraph로 같이 로딩된 상태여야 함)
+     * (외부 이미지 URL -> /stickers/img/{id} 프록시 주소)
+     */
+    public StickerResponseDTO toDto(StickerEntity entity) {
+        if (entity == null) return null;
+
+        StickerCategoryEntity category = entity.getStickerCategory();
+
+        return StickerResponseDTO.builder()
+                .stickerId(entity.getStickerId())
+                .stickerName(entity.getStickerName())
+                .stickerImageUrl(StickerImageCache.proxyUrl(entity.getStickerId(), entity.getStickerImageUrl()))
+                .categoryName(category != null ? category.getName() : null)
+                .build();
+    }
+
+    public List<StickerResponseDTO> toDtoList(List<StickerEntity> entities) {
+        return entities.stream().map(this::toDto).toList();
+    }
+
+    /**
+     * 스티커 카테고리 엔티티를 응답 DTO로 변환
+     */
+    public StickerCategoryResponseDTO toCategoryDto(StickerCategoryEntity entity) {
+        if (entity == null) return null;
+
+        return StickerCategoryResponseDTO.builder()
+                .stickerCategoryId(entity.getStickerCategoryId())
+                .name(entity.getName())
+                .isActive(entity.getIsActive())
+                .build();
+    }
+
+    public List<StickerCategoryResponseDTO> toCategoryDtoList(List<StickerCategoryEntity> entities) {
+        return entities.stream().map(this::toCategoryDto).toList();
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<CommentEntity, Integer> {
@@ -25,6 +26,10 @@ public interface CommentRepository extends JpaRepository<CommentEntity, Integer>
     // ✅ 유저별 댓글 찾기
     Page<CommentEntity> findByUser_UserId(Integer userId, Pageable pageable);
 
+    // ✅ 조건부 GET용: 게시글의 마지막 댓글 변경 시각
+    @Query("select max(c.updatedAt) from CommentEntity c where c.post.postId = :postId")
+    LocalDateTime findLastUpdatedAtByPostId(@Param("postId") Integer postId);
+
     @Modifying
     @Query("UPDATE CommentEntity c SET c.user = null WHERE c.user.userId = :userId")
     void setAuthorNull(@Param("userId") Integer userId);
@@ -0,0 +1,139 @@
+package com.example.nasda.repository;
+
+import com.example.nasda.domain.PostCardEntity;
+import com.example.nasda.dto.post.HomePostDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PostCardRepository extends JpaRepository<PostCardEntity, Integer> {
+
+    // ✅ 카드 목록은 post_cards 한 테이블에서만 (조인 없음), 이미지는 카드용 썸네일 → 아직 없으면 원본
+    String CARD_SELECT = """
+        select new com.example.nasda.dto.post.HomePostDto(c.postId, c.title, coalesce(c.thumbnailUrl, c.imageUrl), c.createdAt,
+                                                          c.imageWidth, c.imageHeight, c.dominantColor, c.blurHash)
+        from PostCardEntity c
+        """;
+
+    // =========================
+    // 홈 카드 (offset 페이징)
+    // =========================
+    @Query(value = CARD_SELECT + "order by c.createdAt desc, c.postId desc",
+            countQuery = "select count(c) from PostCardEntity c")
+    Page<HomePostDto> findHomeCardPage(Pageable pageable);
+
+    @Query(value = CARD_SELECT + "where c.categoryName = :categoryName order by c.createdAt desc, c.postId desc",
+            countQuery = "select count(c) from PostCardEntity c where c.categoryName = :categoryName")
+    Page<HomePostDto> findHomeCardPageByCategoryName(@Param("categoryName") String categoryName, Pageable pageable);
+
+    // =========================
+    // 홈 카드 (count 없이 상위 N개 / 커서)
+    // =========================
+    @Query(CARD_SELECT + "order by c.createdAt desc, c.postId desc")
+    List<HomePostDto> findHomeCards(Pageable pageable);
+
+    @Query(CARD_SELECT + "where c.categoryName = :categoryName order by c.createdAt desc, c.postId desc")
+    List<HomePostDto> findHomeCardsByCategoryName(@Param("categoryName") String categoryName, Pageable pageable);
+
+    @Query(CARD_SELECT + """
+        where c.createdAt < :createdAt
+           or (c.createdAt = :createdAt and c.postId < :postId)
+        order by c.createdAt desc, c.postId desc
+        """)
+    List<HomePostDto> findHomeCardsAfter(@Param("createdAt") LocalDateTime createdAt,
+                                         @Param("postId") Integer postId,
+                                         Pageable pageable);
+
+    @Query(CARD_SELECT + """
+        where c.categoryName = :categoryName
+          and (c.createdAt < :createdAt
+               or (c.createdAt = :createdAt and c.postId < :postId))
+        order by c.createdAt desc, c.postId desc
+        """)
+    List<HomePostDto> findHomeCardsByCategoryNameAfter(@Param("categoryName") String categoryName,
+                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("postId") Integer postId,
+                                                       Pageable pageable);
+
+    // =========================
+    // 검색 결과 카드 (:keyword 는 SearchAnalyzer.escapeLike 결과)
+    // =========================
+    @Query(CARD_SELECT + "where lower(c.title) like lower(concat('%', :keyword, '%')) escape '!' order by c.createdAt desc")
+    List<HomePostDto> searchByTitle(@Param("keyword") String keyword);
+
+    @Query(CARD_SELECT + "where lower(c.nickname) like lower(concat('%', :keyword, '%')) escape '!' order by c.createdAt desc")
+    List<HomePostDto> searchByNickname(@Param("keyword") String keyword);
+
+    @Query(CARD_SELECT + "where lower(c.categoryName) like lower(concat('%', :keyword, '%')) escape '!' order by c.createdAt desc")
+    List<HomePostDto> searchByCategoryName(@Param("keyword") String keyword);
+
+    // 검색 인덱스가 고른 id들의 카드 (순서는 호출하는 쪽에서 맞춤)
+    @Query(CARD_SELECT + "where c.postId in :ids")
+    List<HomePostDto> findHomeCardsByIds(@Param("ids") Collection<Integer> ids);
+
+    // 본문(description)은 카드에 없으므로 posts에서 id만 골라 카드로 조회
+    @Query(CARD_SELECT + """
+        where c.postId in (
+            select p.postId from PostEntity p
+            where lower(p.description) like lower(concat('%', :keyword, '%')) escape '!'
+        )
+        order by c.createdAt desc
+        """)
+    List<HomePostDto> searchByDescription(@Param("keyword") String keyword);
+
+    // 자동완성 사전 적재용 (postId 순 배치)
+    List<PostCardEntity> findByPostIdGreaterThanOrderByPostIdAsc(Integer postId, Pageable pageable);
+
+    // =========================
+    // 마이페이지
+    // =========================
+    Page<PostCardEntity> findByUserIdOrderByCreatedAtDesc(Integer userId, Pageable pageable);
+
+    List<PostCardEntity> findTop4ByUserIdOrderByCreatedAtDesc(Integer userId);
+
+    // =========================
+    // 쓰기 이벤트 반영
+    // =========================
+    @Modifying
+    @Query("update PostCardEntity c set c.commentCount = c.commentCount + :delta where c.postId = :postId")
+    void addCommentCount(@Param("postId") Integer postId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update PostCardEntity c set c.nickname = :nickname where c.userId = :userId")
+    void updateNickname(@Param("userId") Integer userId, @Param("nickname") String nickname);
+
+    // 탈퇴 시 posts.user_id = null 과 동일하게
+    @Modifying
+    @Query("update PostCardEntity c set c.userId = null, c.nickname = null where c.userId = :userId")
+    void setAuthorNull(@Param("userId") Integer userId);
+
+    // ✅ 읽기 모델 도입 전 글들을 한 번에 채움 (없는 글만)
+    @Modifying
+    @Query(value = """
+        insert into post_cards
+            (post_id, user_id, category_id, title, nickname, category_name,
+             image_url, thumbnail_url, image_width, image_height, dominant_color, blur_hash,
+             comment_count, image_version, created_at, updated_at)
+        select p.post_id, p.user_id, p.category_id, p.title, u.nickname, c.category_name,
+               i.image_url, i.card_url, i.width, i.height, i.dominant_color, i.blur_hash,
+               (select count(*) from comments cm where cm.post_id = p.post_id),
+               0, p.created_at, p.updated_at
+        from posts p
+        left join users u on u.user_id = p.user_id
+        left join categories c on c.category_id = p.category_id
+        left join post_images i on i.image_id = (
+               select fi.image_id from post_images fi
+                where fi.post_id = p.post_id
+                order by fi.sort_order, fi.image_id
+                limit 1)
+        where not exists (select 1 from post_cards pc where pc.post_id = p.post_id)
+        """, nativeQuery = true)
+    int backfillMissing();
+}
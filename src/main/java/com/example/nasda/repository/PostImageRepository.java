@@ -1,9 +1,13 @@
 package com.example.nasda.repository;
 
 import com.example.nasda.domain.PostImageEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,8 +19,32 @@ public interface PostImageRepository extends JpaRepository<PostImageEntity, Inte
     // ✅ PostService가 쓰는 메서드 (유지)
     List<PostImageEntity> findAllByPost_PostIdOrderBySortOrderAsc(Integer postId);
 
-    Optional<PostImageEntity> findFirstByPost_PostIdOrderBySortOrderAsc(Integer postId);
+    // 대표 이미지: sort_order 가 같으면 먼저 저장된(image_id 작은) 것 → 카드/백필/상세가 같은 이미지를 고름
+    Optional<PostImageEntity> findFirstByPost_PostIdOrderBySortOrderAscImageIdAsc(Integer postId);
 
     @Transactional
     void deleteByPost_PostId(Integer postId);
+
+    // 같은 파일(내용 주소 URL)을 쓰는 이미지 중 썸네일이 이미 있는 것
+    Optional<PostImageEntity> findFirstByImageUrlAndCardUrlIsNotNull(String imageUrl);
+
+    // 같은 파일을 쓰는 이미지 중 크기/색 정보가 이미 있는 것
+    Optional<PostImageEntity> findFirstByImageUrlAndWidthIsNotNull(String imageUrl);
+
+    // 업로드 정리(UploadGarbageCollector): 예전 UUID 파일을 아직 쓰는 이미지가 있는지 (image_url 인덱스 범위 검색)
+    boolean existsByImageUrlStartingWith(String prefix);
+
+    // ✅ 업로드 정리: 묶음 안 예전 UUID 원본 중 참조되는 URL (image_url 인덱스, IN 한 번)
+    @Query("select distinct i.imageUrl from PostImageEntity i where i.imageUrl in :urls")
+    List<String> findImageUrlsIn(@Param("urls") Collection<String> urls);
+
+    // ✅ 썸네일 또는 크기/색 정보가 아직 없는 이미지 (기동 시 백필, imageId 순 배치)
+    // 크기를 읽다 실패한 이미지(metadataFailed)는 매 기동마다 다시 디코딩하지 않도록 제외
+    @Query("""
+        select i.imageId from PostImageEntity i
+        where (i.cardUrl is null or (i.width is null and coalesce(i.metadataFailed, false) = false))
+          and i.imageId > :afterId
+        order by i.imageId
+        """)
+    List<Integer> findIdsWithoutThumbnails(@Param("afterId") Integer afterId, Pageable pageable);
 }
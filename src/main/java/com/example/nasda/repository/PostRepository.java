@@ -1,14 +1,17 @@
 package com.example.nasda.repository;
 
 import com.example.nasda.domain.PostEntity;
+import com.example.nasda.dto.search.SearchDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<PostEntity, Integer> {
 
@@ -17,41 +20,121 @@ public interface PostRepository extends JpaRepository<PostEntity, Integer> {
     @Query("UPDATE PostEntity p SET p.user = null WHERE p.user.userId = :userId")
     void setAuthorNull(@Param("userId") Integer userId);
 
+    // ✅ 상세 화면용: 글 + 작성자 + 카테고리 + 이미지(sortOrder 순)를 쿼리 한 번으로
+    @EntityGraph(attributePaths = {"user", "category", "images"})
+    Optional<PostEntity> findDetailByPostId(Integer postId);
+
     long countByUser_UserId(Integer userId);
 
     // ✅ 내 전체 포스트 목록 조회
     List<PostEntity> findByUser_UserIdOrderByCreatedAtDesc(Integer userId);
 
-    List<PostEntity> findTop4ByUser_UserIdOrderByCreatedAtDesc(Integer userId);
-
-    List<PostEntity> findAllByOrderByCreatedAtDesc();
-
-    List<PostEntity> findTop30ByOrderByCreatedAtDesc();
-
-    // ✅ 카테고리 필터 + 페이징
-    Page<PostEntity> findByCategory_CategoryNameOrderByCreatedAtDesc(String categoryName, Pageable pageable);
-
-    // ✅ 전체 + 페이징
-    Page<PostEntity> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    Page<PostEntity> findByUser_UserId(Integer userId, Pageable pageable);
 
+    // =========================
+    // ✅ FULLTEXT 검색 엔진 (app.search.engine=fulltext)
+    // :q 는 SearchAnalyzer.fullTextQuery 결과, 점수 × (1 + w × 0.5^(경과일/반감기))
+    // =========================
+    @Query(value = """
+        select p.post_id from posts p
+        where match(p.search_title) against (:q in boolean mode)
+        order by match(p.search_title) against (:q in boolean mode)
+                 * (1 + :w * pow(0.5, timestampdiff(minute, p.created_at, now()) / 1440 / :halfLife)) desc,
+                 p.created_at desc, p.post_id desc
+        limit :limit offset :offset
+    """, nativeQuery = true)
+    List<Integer> fullTextSearchTitle(@Param("q") String q,
+                                      @Param("w") double recencyWeight,
+                                      @Param("halfLife") double halfLifeDays,
+                                      @Param("limit") int limit,
+                                      @Param("offset") int offset);
+
+    @Query(value = "select count(*) from posts p where match(p.search_title) against (:q in boolean mode)",
+            nativeQuery = true)
+    long countFullTextTitle(@Param("q") String q);
+
+    // 본문 검색: 제목+본문 합쳐서 모든 토큰 포함, 점수는 제목 2배 + 본문
+    @Query(value = """
+        select p.post_id from posts p
+        where match(p.search_title, p.search_body) against (:q in boolean mode)
+        order by (2 * match(p.search_title) against (:q in boolean mode)
+                  + match(p.search_body) against (:q in boolean mode))
+                 * (1 + :w * pow(0.5, timestampdiff(minute, p.created_at, now()) / 1440 / :halfLife)) desc,
+                 p.created_at desc, p.post_id desc
+        limit :limit offset :offset
+    """, nativeQuery = true)
+    List<Integer> fullTextSearchContent(@Param("q") String q,
+                                        @Param("w") double recencyWeight,
+                                        @Param("halfLife") double halfLifeDays,
+                                        @Param("limit") int limit,
+                                        @Param("offset") int offset);
+
+    @Query(value = """
+        select count(*) from posts p
+        where match(p.search_title, p.search_body) against (:q in boolean mode)
+    """, nativeQuery = true)
+    long countFullTextContent(@Param("q") String q);
+
+    // 작성자/카테고리는 짧은 이름이라 FULLTEXT 대신 users/categories 쪽 LIKE (작은 테이블, :q 는 SearchAnalyzer.escapeLike 결과)
+    @Query(value = """
+        select p.post_id from posts p
+        join users u on u.user_id = p.user_id
+        where lower(u.nickname) like concat('%', lower(:q), '%') escape '!'
+        order by p.created_at desc, p.post_id desc
+        limit :limit offset :offset
+    """, nativeQuery = true)
+    List<Integer> searchIdsByNickname(@Param("q") String q, @Param("limit") int limit, @Param("offset") int offset);
+
+    @Query(value = """
+        select count(*) from posts p
+        join users u on u.user_id = p.user_id
+        where lower(u.nickname) like concat('%', lower(:q), '%') escape '!'
+    """, nativeQuery = true)
+    long countByNicknameLike(@Param("q") String q);
+
+    @Query(value = """
+        select p.post_id from posts p
+        join categories c on c.category_id = p.category_id
+        where lower(c.category_name) like concat('%', lower(:q), '%') escape '!'
+        order by p.created_at desc, p.post_id desc
+        limit :limit offset :offset
+    """, nativeQuery = true)
+    List<Integer> searchIdsByCategoryName(@Param("q") String q, @Param("limit") int limit, @Param("offset") int offset);
+
+    @Query(value = """
+        select count(*) from posts p
+        join categories c on c.category_id = p.category_id
+        where lower(c.category_name) like concat('%', lower(:q), '%') escape '!'
+    """, nativeQuery = true)
+    long countByCategoryNameLike(@Param("q") String q);
+
+    // 검색 토큰이 비어 있는 기존 글 (FULLTEXT 엔진 기동 시 채움, 엔티티 대신 제목/본문만)
     @Query("""
-        select p
+        select new com.example.nasda.dto.search.SearchDocument(
+            p.postId, u.userId, p.title, p.description, u.nickname, c.categoryName, p.createdAt)
         from PostEntity p
-        join fetch p.user
-        join fetch p.category
-        order by p.createdAt desc
+        left join p.user u
+        left join p.category c
+        where p.searchTitle is null and p.postId > :afterId
+        order by p.postId
     """)
-    List<PostEntity> findAllWithUserAndCategoryOrderByCreatedAtDesc();
-
-    // =========================
-    // ✅ [추가] 검색 기능용
-    // =========================
-    List<PostEntity> findByTitleContainingIgnoreCaseOrderByCreatedAtDesc(String keyword);
-
-    List<PostEntity> findByDescriptionContainingIgnoreCaseOrderByCreatedAtDesc(String keyword);
-
-    List<PostEntity> findByUser_NicknameContainingIgnoreCaseOrderByCreatedAtDesc(String keyword);
+    List<SearchDocument> findDocumentsWithoutSearchTokens(@Param("afterId") Integer afterId, Pageable pageable);
 
-    List<PostEntity> findByCategory_CategoryNameContainingIgnoreCaseOrderByCreatedAtDesc(String keyword);
+    // 토큰만 바로 update (엔티티 변경 감지를 거치지 않으므로 updated_at 은 그대로)
+    @Modifying
+    @Query(value = "update posts set search_title = :title, search_body = :body where post_id = :postId",
+            nativeQuery = true)
+    int updateSearchTokens(@Param("postId") Integer postId, @Param("title") String title, @Param("body") String body);
 
-    Page<PostEntity> findByUser_UserId(Integer userId, Pageable pageable);}
+    // ✅ 검색 인덱스 적재용 (postId 순 배치)
+    @Query("""
+        select new com.example.nasda.dto.search.SearchDocument(
+            p.postId, u.userId, p.title, p.description, u.nickname, c.categoryName, p.createdAt)
+        from PostEntity p
+        left join p.user u
+        left join p.category c
+        where p.postId > :afterId
+        order by p.postId
+    """)
+    List<SearchDocument> findSearchDocumentsAfter(@Param("afterId") Integer afterId, Pageable pageable);
+}
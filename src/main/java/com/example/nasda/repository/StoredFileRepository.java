@@ -0,0 +1,45 @@
+package com.example.nasda.repository;
+
+import com.example.nasda.domain.StoredFileEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface StoredFileRepository extends JpaRepository<StoredFileEntity, String> {
+
+    // ✅ 참조 +1 (처음이면 행 생성). 같은 내용을 동시에 올려도 행 잠금으로 한 줄씩 처리됨
+    @Transactional
+    @Modifying
+    @Query(value = """
+        insert into stored_files (sha256, url, size, content_type, ref_count, created_at)
+        values (:sha256, :url, :size, :contentType, 1, now())
+        on duplicate key update ref_count = ref_count + 1
+        """, nativeQuery = true)
+    void acquire(@Param("sha256") String sha256,
+                 @Param("url") String url,
+                 @Param("size") long size,
+                 @Param("contentType") String contentType);
+
+    // ✅ 참조 -1
+    @Transactional
+    @Modifying
+    @Query("update StoredFileEntity f set f.refCount = f.refCount - 1 where f.sha256 = :sha256 and f.refCount > 0")
+    int release(@Param("sha256") String sha256);
+
+    // ✅ 마지막 참조였으면 행 삭제 (1 = 삭제됨 → 파일도 지워야 함)
+    @Transactional
+    @Modifying
+    @Query("delete from StoredFileEntity f where f.sha256 = :sha256 and f.refCount <= 0")
+    int deleteIfUnreferenced(@Param("sha256") String sha256);
+
+    // 파일 삭제 직전 확인용: 그 사이 같은 내용이 다시 올라왔는지 (올라오는 중이면 커밋까지 기다림)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f from StoredFileEntity f where f.sha256 = :sha256")
+    Optional<StoredFileEntity> findForUpdate(@Param("sha256") String sha256);
+}
@@ -1,6 +1,7 @@
 package com.example.nasda.repository.sticker;
 
 import com.example.nasda.domain.PostDecorationEntity;
+import com.example.nasda.dto.sticker.DecorationVersionDto;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -22,6 +23,13 @@ public interface PostDecorationRepository extends JpaRepository<PostDecorationEn
     // ✅ 게시글 전체 조회용
     List<PostDecorationEntity> findByPostPostId(Integer postId);
 
+    // ✅ 조건부 GET용 버전 (엔티티 로딩 없이 개수 + 마지막 수정 시각만)
+    @Query("select new com.example.nasda.dto.sticker.DecorationVersionDto(count(d), max(d.updatedAt)) from PostDecorationEntity d where d.postImage.imageId = :imageId")
+    DecorationVersionDto findVersionByImageId(@Param("imageId") Integer imageId);
+
+    @Query("select new com.example.nasda.dto.sticker.DecorationVersionDto(count(d), max(d.updatedAt)) from PostDecorationEntity d where d.post.postId = :postId")
+    DecorationVersionDto findVersionByPostId(@Param("postId") Integer postId);
+
     // ✅ [데드락 해결 핵심] 벌크 삭제: 수정/삭제 시 기존 데이터를 한 번에 날립니다.
     @Modifying
     @Transactional
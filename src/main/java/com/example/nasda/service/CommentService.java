@@ -21,6 +21,7 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
+    private final PostCardService postCardService;
 
     public Page<CommentViewDto> getCommentsPage(Integer postId, int page, int size, Integer currentUserId) {
         int safePage = Math.max(0, page);
@@ -60,6 +61,7 @@ public class CommentService {
 
         c = CommentEntity.create(post, userId, trimmed);
         CommentEntity saved = commentRepository.save(c);
+        postCardService.commentAdded(postId);
         return saved.getCommentId();
     }
 
@@ -86,6 +88,7 @@ public class CommentService {
 
         Integer postId = comment.getPost().getPostId();
         commentRepository.delete(comment); // ✅ 물리 삭제
+        postCardService.commentRemoved(postId);
         return postId;
     }
 
@@ -0,0 +1,114 @@
+package com.example.nasda.service;
+
+import com.example.nasda.domain.PostCardEntity;
+import com.example.nasda.dto.sticker.DecorationVersionDto;
+import com.example.nasda.repository.CommentRepository;
+import com.example.nasda.repository.PostCardRepository;
+import com.example.nasda.repository.sticker.PostDecorationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조건부 GET(ETag / Last-Modified)용 버전 계산.
+ * 본문을 만들기 전에 아주 작은 쿼리(또는 메모리 값)만으로 "바뀌었는지"를 판단합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ContentVersionService {
+
+    // 재기동하면 메모리 버전(generation)이 0부터 다시 시작하므로 ETag에 기동 시각을 섞음
+    private static final String BOOT_ID = Long.toString(System.currentTimeMillis(), 36);
+
+    private final HomeFeedCache homeFeedCache;
+    private final PostCardRepository postCardRepository;
+    private final CommentRepository commentRepository;
+    private final PostDecorationRepository postDecorationRepository;
+
+    // ✅ 닉네임 변경/탈퇴 때마다 +1 (PostCardService)
+    // 상세 화면에는 글 작성자, 댓글 작성자들, 보는 사람(헤더) 닉네임이 찍히는데 어느 것도 글/댓글 수정 시각을
+    // 바꾸지 않으므로, 드문 이벤트인 닉네임 변경 시 모든 상세 ETag 를 한 번에 바꿈 (DB 조회 없음)
+    private final AtomicLong authors = new AtomicLong();
+
+    public record Version(String etag, long lastModified) { }
+
+    // ✅ 홈 피드: 글/이미지 변경 때마다 올라가는 캐시 generation 그대로 사용 (DB 조회 없음)
+    public Version feed() {
+        return new Version("W/\"feed-" + BOOT_ID + "-" + homeFeedCache.generation() + "\"", -1);
+    }
+
+    // ✅ 게시글 상세: 카드(글 수정 시각, 이미지 버전, 댓글 수) + 마지막 댓글 수정 + 닉네임 버전 + 보는 사람 + 페이지
+    public Version post(Integer postId, String viewerLoginId, int page, int size) {
+        PostCardEntity card = postCardRepository.findById(postId).orElse(null);
+        if (card == null) return null;
+
+        LocalDateTime postModified = card.getUpdatedAt() != null ? card.getUpdatedAt() : card.getCreatedAt();
+        LocalDateTime lastComment = commentRepository.findLastUpdatedAtByPostId(postId);
+
+        String etag = "W/\"post-" + postId + "-" + toMillis(postModified) + "-" + card.getImageVersion()
+                + "-" + card.getCommentCount() + "-" + toMillis(lastComment)
+                + "-" + BOOT_ID + "." + authors.get()
+                + "-" + viewer(viewerLoginId) + "-" + page + "x" + size + "\"";
+        // 닉네임 변경은 수정 시각에 안 잡히므로 If-Modified-Since 만으로는 판단하지 않게 함
+        return new Version(etag, -1);
+    }
+
+    // ✅ 닉네임 변경/탈퇴 (커밋 후 반영: 커밋 전 옛 데이터가 새 버전으로 캐시되지 않게)
+    public void authorsChanged() {
+        afterCommit(authors::incrementAndGet);
+    }
+
+    // 보는 사람마다 다른 ETag (소유자 버튼/헤더 닉네임). 로그인 아이디를 그대로 내보내지 않도록 해시
+    private static String viewer(String loginId) {
+        if (loginId == null) return "guest";
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(loginId.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // ✅ 이미지별 꾸미기
+    public Version decorationsByImage(Integer imageId) {
+        return decorations("img-" + imageId, postDecorationRepository.findVersionByImageId(imageId));
+    }
+
+    // ✅ 게시글 전체 꾸미기
+    public Version decorationsByPost(Integer postId) {
+        return decorations("post-" + postId, postDecorationRepository.findVersionByPostId(postId));
+    }
+
+    private Version decorations(String scope, DecorationVersionDto v) {
+        long modified = toMillis(v.lastUpdatedAt());
+        return new Version("W/\"deco-" + scope + "-" + v.count() + "-" + modified + "\"", modified);
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time == null ? -1 : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
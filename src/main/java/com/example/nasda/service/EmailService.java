@@ -1,21 +1,73 @@
 package com.example.nasda.service;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Service
-@RequiredArgsConstructor
 public class EmailService {
 
     private final JavaMailSender mailSender;
+    private final long sendTimeoutSeconds;
+
+    // ✅ SMTP 전용 플랫폼 스레드 풀
+    // JavaMail(Transport)은 synchronized 블록 안에서 소켓 I/O를 하므로 가상 스레드에서 직접 호출하면
+    // 캐리어 스레드가 고정(pinning)됩니다. 요청 스레드는 Future만 기다리고(가상 스레드는 대기 중 언마운트),
+    // 실제 전송은 이 작은 풀에서 처리합니다. 동시에 붙는 SMTP 연결 수도 여기서 제한됩니다.
+    private final ExecutorService mailExecutor;
+
+    public EmailService(JavaMailSender mailSender,
+                        @Value("${app.mail.pool-size:4}") int poolSize,
+                        @Value("${app.mail.send-timeout-seconds:15}") long sendTimeoutSeconds) {
+        this.mailSender = mailSender;
+        this.sendTimeoutSeconds = sendTimeoutSeconds;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.mailExecutor = Executors.newFixedThreadPool(poolSize, r -> {
+            Thread t = new Thread(r, "mail-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
 
     public void sendMail(String to, String subject, String text) {
         SimpleMailMessage message = new SimpleMailMessage();
         message.setFrom("Nasda 관리자 <taemin3429@naver.com>");        message.setTo(to);
         message.setSubject(subject);
         message.setText(text);
-        mailSender.send(message);
+
+        Future<?> sending = mailExecutor.submit(() -> mailSender.send(message));
+        try {
+            sending.get(sendTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            // 기존처럼 MailException 등을 그대로 호출자에게 전달
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("메일 발송 실패", e.getCause());
+        } catch (TimeoutException e) {
+            // ✅ 아직 풀 대기열에 있으면 전송 자체가 취소됩니다.
+            // 이미 SMTP 대화 중이면 interrupt 로 소켓 I/O가 멈추지 않아(소켓 타임아웃까지 진행)
+            // 호출자가 실패를 받은 뒤에도 메일이 도착할 수 있습니다. 재발송 시 중복 메일이 갈 수 있음.
+            sending.cancel(true);
+            throw new IllegalStateException("메일 발송 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            sending.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("메일 발송이 중단되었습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        mailExecutor.shutdown();
     }
-}
\ No newline at end of file
+}
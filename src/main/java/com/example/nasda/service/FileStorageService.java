@@ -1,64 +1,314 @@
 package com.example.nasda.service;
 
-import org.springframework.beans.factory.annotation.Value;
+import com.example.nasda.repository.StoredFileRepository;
+import com.example.nasda.service.image.ThumbnailService;
+import com.example.nasda.service.storage.StorageBackend;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+/**
+ * 업로드 이미지 저장소 (내용 주소 방식).
+ * - 파일 이름 = 내용의 SHA-256 → 같은 바이트는 한 번만 쓰고 여러 글이 같이 씀 (stored_files.ref_count)
+ * - URL이 내용으로 정해지므로 한 번 만든 URL의 내용은 바뀌지 않음
+ * - deleteByUrl 은 참조만 줄이고, 마지막 참조가 사라진 뒤(커밋 후)에만 파일과 썸네일을 지움
+ * 파일이 실제로 놓이는 곳과 URL은 StorageBackend(app.storage.backend)가 정합니다.
+ */
 @Service
 public class FileStorageService {
 
-    @Value("${app.upload.dir}")
-    private String uploadDir;
+    // 업로드 한 건이 쓰는 메모리는 이 버퍼 하나 (파일 크기와 무관)
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int HEADER_SIZE = 16;
+
+    // 키 {sha256}.{ext} (이 형식이 아니면 내용 주소 도입 전에 UUID로 저장된 파일)
+    private static final Pattern CONTENT_KEY = Pattern.compile("^([0-9a-f]{64})\\.[a-z]+$");
+
+    private final StorageBackend storage;
+    private final StoredFileRepository storedFileRepository;
+    // 파일 삭제 직전 확인은 요청 트랜잭션이 끝난 뒤 별도 트랜잭션으로
+    private final TransactionTemplate purgeTx;
+
+    public FileStorageService(StorageBackend storage,
+                              StoredFileRepository storedFileRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.storage = storage;
+        this.storedFileRepository = storedFileRepository;
+        this.purgeTx = new TransactionTemplate(transactionManager);
+        this.purgeTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 저장 결과 (sha256 = 저장된 바이트 그대로의 해시, hex)
+    public record StoredImage(String url, String sha256, long size, String contentType) {}
 
     public String saveImage(MultipartFile file) {
+        return store(file).url();
+    }
+
+    /**
+     * 업로드 이미지를 스트리밍으로 저장.
+     * - 클라이언트가 보낸 Content-Type/파일명 대신 앞부분 매직 바이트로 형식과 확장자를 정함
+     * - 1차: 고정 크기 버퍼로 읽기만 하면서 SHA-256 계산 (파트는 이미 컨테이너 임시 파일에 있음)
+     * - 같은 내용이 이미 있으면 참조만 +1, 없을 때만 임시 파일에 쓰고 디스크에 내린 뒤 저장소에 원자적으로 공개
+     *   (중간에 실패해도 반쯤 쓰인 파일이 URL로 보이지 않음)
+     * 트랜잭션 안에서 호출하면 커밋까지 그 내용의 행 잠금을 잡고 있어 동시 삭제와 엇갈리지 않습니다.
+     */
+    public StoredImage store(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("빈 파일입니다.");
         }
-        if (file.getContentType() == null || !file.getContentType().startsWith("image/")) {
-            throw new IllegalArgumentException("이미지 파일만 업로드 가능합니다.");
+
+        try {
+            Scan scan = scan(file);
+            String key = scan.sha256() + scan.type().extension;
+            String url = storage.urlOf(key);
+
+            storedFileRepository.acquire(scan.sha256(), url, scan.size(), scan.type().contentType);
+
+            if (!storage.exists(key)) {
+                write(file, key, scan.sha256(), scan.type().contentType);
+            }
+
+            // 브라우저 접근 URL (백엔드가 정함: /uploads/… 또는 버킷/CDN 주소)
+            return new StoredImage(url, scan.sha256(), scan.size(), scan.type().contentType);
+
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장 실패", e);
         }
+    }
 
+    private record Scan(ImageType type, String sha256, long size) {}
+
+    private Scan scan(MultipartFile file) throws IOException {
+        MessageDigest sha256 = sha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long size = 0;
+
+        try (InputStream in = file.getInputStream()) {
+            int head = in.readNBytes(buffer, 0, HEADER_SIZE);
+            ImageType type = ImageType.detect(buffer, head);
+            if (type == null) {
+                throw new IllegalArgumentException("이미지 파일만 업로드 가능합니다.");
+            }
+
+            int n = head;
+            while (n > 0) {
+                sha256.update(buffer, 0, n);
+                size += n;
+                n = in.read(buffer);
+            }
+            return new Scan(type, HexFormat.of().formatHex(sha256.digest()), size);
+        }
+    }
+
+    private void write(MultipartFile file, String key, String expectedSha256, String contentType) throws IOException {
+        Path temp = storage.tempFile(".upload-");
         try {
-            Path dir = Paths.get(uploadDir).toAbsolutePath().normalize();
-            Files.createDirectories(dir);
+            MessageDigest sha256 = sha256();
+            byte[] buffer = new byte[BUFFER_SIZE];
 
-            String original = file.getOriginalFilename() == null ? "image" : file.getOriginalFilename();
-            String ext = "";
+            try (InputStream in = file.getInputStream();
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                int n;
+                while ((n = in.read(buffer)) > 0) {
+                    sha256.update(buffer, 0, n);
+                    out.write(ByteBuffer.wrap(buffer, 0, n));
+                }
+                out.force(false);
+            }
 
-            int dot = original.lastIndexOf('.');
-            if (dot > -1) ext = original.substring(dot); // .jpg
+            // 두 번 읽는 사이 내용이 달라졌으면 잘못된 이름으로 저장하지 않음
+            if (!HexFormat.of().formatHex(sha256.digest()).equals(expectedSha256)) {
+                throw new IOException("업로드 내용이 읽는 도중 바뀌었습니다.");
+            }
 
-            String savedName = UUID.randomUUID() + ext;
-            Path target = dir.resolve(savedName);
+            storage.put(key, temp, contentType);
+        } finally {
+            // 임시 파일(.upload-*.tmp)은 남아도 서비스되지 않음
+            Files.deleteIfExists(temp);
+        }
+    }
 
-            // 덮어쓰기 방지
-            Files.copy(file.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
-            // 브라우저 접근 URL
-            return "/uploads/" + savedName;
+    // 업로드 URL → 디스크 경로 (이 저장소 URL이 아니거나 원격 저장소면 null)
+    public Path pathOf(String imageUrl) {
+        String key = storage.keyOf(imageUrl);
+        return key == null ? null : storage.localPath(key);
+    }
 
-        } catch (IOException e) {
-            throw new RuntimeException("파일 저장 실패", e);
+    // 예전 URL(/uploads/…)을 포함해 지금 저장소가 서빙하는 URL로 (저장소 URL이 아니면 null)
+    public String publicUrl(String imageUrl) {
+        String key = storage.keyOf(imageUrl);
+        return key == null ? null : storage.urlOf(key);
+    }
+
+    public boolean exists(String imageUrl) throws IOException {
+        String key = storage.keyOf(imageUrl);
+        return key != null && storage.exists(key);
+    }
+
+    // 로컬 파일이 필요한 처리(ImageIO 등), 원격 저장소면 임시로 받아서
+    public <T> T read(String imageUrl, StorageBackend.LocalRead<T> reader) throws IOException {
+        String key = storage.keyOf(imageUrl);
+        if (key == null) throw new IOException("저장소 URL이 아닙니다: " + imageUrl);
+        return storage.read(key, reader);
+    }
+
+    /**
+     * 파생 파일(썸네일 등)을 임시 파일에 쓴 뒤 공개. 이미 있으면 쓰지 않음
+     * (파생 파일도 원본 내용으로 이름이 정해지고 공개는 원자적이므로 있으면 완전한 파일).
+     */
+    public void writeIfAbsent(String url, String contentType, OutputWriter writer) throws IOException {
+        String key = storage.keyOf(url);
+        if (key == null) throw new IOException("저장소 URL이 아닙니다: " + url);
+        if (storage.exists(key)) return;
+
+        Path temp = storage.tempFile(".thumb-");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                writer.write(out);
+            }
+            storage.put(key, temp, contentType);
+        } finally {
+            Files.deleteIfExists(temp);
         }
     }
 
+    @FunctionalInterface
+    public interface OutputWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    // 썸네일 등 파생 파일 URL: /uploads/abc.png + "w400" → /uploads/abc_w400.jpg
+    public String variantUrl(String imageUrl, String suffix) {
+        String name = imageUrl.substring(imageUrl.lastIndexOf('/') + 1);
+        int dot = name.lastIndexOf('.');
+        String base = dot > -1 ? name.substring(0, dot) : name;
+        return imageUrl.substring(0, imageUrl.lastIndexOf('/') + 1) + base + "_" + suffix + ".jpg";
+    }
+
+    /**
+     * 참조 하나 해제. 마지막 참조였으면 커밋 후 파일과 썸네일 삭제.
+     * (내용 주소 도입 전 UUID 파일은 공유되지 않으므로 참조 확인 없이, 역시 커밋 후 삭제 → 롤백되면 파일 유지)
+     */
     public void deleteByUrl(String imageUrl) {
-        // imageUrl: /uploads/xxx.jpg
-        if (imageUrl == null || !imageUrl.startsWith("/uploads/")) return;
+        // imageUrl: /uploads/xxx.jpg (또는 저장소 URL)
+        String key = storage.keyOf(imageUrl);
+        if (key == null) return;
+
+        Matcher m = CONTENT_KEY.matcher(key);
+        if (!m.matches()) {
+            afterCommit(() -> deleteFiles(key));
+            return;
+        }
+
+        String sha256 = m.group(1);
+        storedFileRepository.release(sha256);
+        if (storedFileRepository.deleteIfUnreferenced(sha256) == 0) return;
+
+        afterCommit(() -> purgeTx.executeWithoutResult(status -> {
+            // 그 사이 같은 내용이 다시 올라왔으면 유지
+            if (storedFileRepository.findForUpdate(sha256).isEmpty()) {
+                deleteFiles(key);
+            }
+        }));
+    }
 
+    /**
+     * 업로드 정리용: stored_files 행이 없는 내용 파일(원본 또는 썸네일 하나)을 행 잠금 아래에서 다시 확인하고 삭제.
+     * 같은 내용이 지금 올라오는 중이면 그 커밋까지 기다렸다가 행이 보이므로 지우지 않음.
+     */
+    public boolean purgeIfUnreferenced(String sha256, String key) {
+        return Boolean.TRUE.equals(purgeTx.execute(status -> {
+            if (storedFileRepository.findForUpdate(sha256).isPresent()) return false;
+            try {
+                storage.delete(key);
+                return true;
+            } catch (IOException e) {
+                return false;
+            }
+        }));
+    }
+
+    // 원본 + 썸네일
+    private void deleteFiles(String key) {
+        deleteQuietly(key);
+        for (String suffix : ThumbnailService.VARIANTS) {
+            deleteQuietly(storage.keyOf(variantUrl(storage.urlOf(key), suffix)));
+        }
+    }
+
+    private void deleteQuietly(String key) {
+        if (key == null) return;
         try {
-            String filename = imageUrl.substring("/uploads/".length());
-            Path filePath = Paths.get(uploadDir).toAbsolutePath().normalize().resolve(filename);
-            Files.deleteIfExists(filePath);
+            storage.delete(key);
         } catch (IOException ignored) {
             // 파일 삭제 실패는 DB 삭제보다 덜 치명적이므로 일단 무시(로그는 추후)
         }
     }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // 브라우저가 보여줄 수 있는 형식만 (매직 바이트 기준)
+    private enum ImageType {
+        JPEG(".jpg", "image/jpeg"),
+        PNG(".png", "image/png"),
+        GIF(".gif", "image/gif"),
+        WEBP(".webp", "image/webp");
+
+        final String extension;
+        final String contentType;
+
+        ImageType(String extension, String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        static ImageType detect(byte[] h, int n) {
+            if (n >= 3 && (h[0] & 0xFF) == 0xFF && (h[1] & 0xFF) == 0xD8 && (h[2] & 0xFF) == 0xFF) return JPEG;
+            if (n >= 8 && (h[0] & 0xFF) == 0x89 && h[1] == 'P' && h[2] == 'N' && h[3] == 'G'
+                    && h[4] == 0x0D && h[5] == 0x0A && h[6] == 0x1A && h[7] == 0x0A) return PNG;
+            if (n >= 6 && h[0] == 'G' && h[1] == 'I' && h[2] == 'F' && h[3] == '8'
+                    && (h[4] == '7' || h[4] == '9') && h[5] == 'a') return GIF;
+            if (n >= 12 && h[0] == 'R' && h[1] == 'I' && h[2] == 'F' && h[3] == 'F'
+                    && h[8] == 'W' && h[9] == 'E' && h[10] == 'B' && h[11] == 'P') return WEBP;
+            return null;
+        }
+    }
 }
@@ -0,0 +1,186 @@
+package com.example.nasda.service;
+
+import com.example.nasda.dto.post.HomePostDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 홈 피드 첫 N 페이지 캐시 (카테고리별, 프로세스 내 LRU).
+ * - 모든 방문자에게 동일한 첫 페이지들만 보관하고, 글/이미지 변경 시 해당 카테고리(+전체)나 해당 글이 들어있는 페이지만 지웁니다.
+ * - 지표: home.feed.cache.requests{result=hit|miss}, home.feed.cache.evictions, home.feed.cache.size
+ */
+@Component
+public class HomeFeedCache {
+
+    public static final String ALL = "전체";
+
+    private final int maxPages;
+    private final int maxEntries;
+
+    // access-order LinkedHashMap = LRU
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    // synchronized 대신 ReentrantLock: 가상 스레드 모드에서 캐리어 스레드 고정(pinning) 방지
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 무효화가 일어날 때마다 증가 → 로딩 도중 무효화됐으면 그 결과는 캐시에 넣지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public HomeFeedCache(@Value("${app.home-cache.max-pages:3}") int maxPages,
+                         @Value("${app.home-cache.max-entries:256}") int maxEntries,
+                         MeterRegistry meterRegistry) {
+        this.maxPages = maxPages;
+        this.maxEntries = maxEntries;
+
+        FunctionCounter.builder("home.feed.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("home.feed.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("home.feed.cache.evictions", evictions, LongAdder::sum)
+                .register(meterRegistry);
+        Gauge.builder("home.feed.cache.size", this, HomeFeedCache::size)
+                .register(meterRegistry);
+    }
+
+    public static String normalize(String category) {
+        return (category == null || category.isBlank()) ? ALL : category;
+    }
+
+    public boolean isCacheable(int page) {
+        return maxPages > 0 && page >= 0 && page < maxPages;
+    }
+
+    /**
+     * 캐시에 있으면 그대로, 없으면 loader로 읽어서 저장.
+     * @param itemsOf 값에 포함된 카드 목록 (글 단위 무효화용)
+     */
+    public <T> T getOrLoad(String category, String mode, int page, int size,
+                           Supplier<T> loader, Function<T, List<HomePostDto>> itemsOf) {
+        Key key = new Key(normalize(category), mode, page, size);
+
+        lock.lock();
+        try {
+            Entry cached = entries.get(key);
+            if (cached != null) {
+                hits.increment();
+                @SuppressWarnings("unchecked")
+                T value = (T) cached.value();
+                return value;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        long startGeneration = generation.get();
+        T loaded = loader.get();
+
+        Set<Integer> postIds = itemsOf.apply(loaded).stream()
+                .map(HomePostDto::id)
+                .collect(Collectors.toUnmodifiableSet());
+
+        lock.lock();
+        try {
+            if (generation.get() == startGeneration) {
+                entries.put(key, new Entry(loaded, postIds));
+                trimToSize();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return loaded;
+    }
+
+    // ✅ 새 글/삭제: 해당 카테고리와 "전체"의 모든 페이지가 밀리므로 통째로 제거
+    public void evictCategory(String categoryName) {
+        String target = normalize(categoryName);
+        evictIf(e -> e.getKey().category().equals(target) || e.getKey().category().equals(ALL));
+    }
+
+    // ✅ 제목/대표 이미지 변경: 그 글이 들어있는 페이지만 제거
+    public void evictPost(Integer postId) {
+        evictIf(e -> e.getValue().postIds().contains(postId));
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 실행 (커밋 전 다른 요청이 옛 데이터를 다시 채우는 것 방지).
+     */
+    public void afterCommit(Runnable invalidation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        } else {
+            invalidation.run();
+        }
+    }
+
+    // 무효화 횟수 = 피드 버전 (조건부 GET ETag에 사용)
+    public long generation() {
+        return generation.get();
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictIf(Predicate<Map.Entry<Key, Entry>> condition) {
+        generation.incrementAndGet();
+
+        lock.lock();
+        try {
+            Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+            while (it.hasNext()) {
+                if (condition.test(it.next())) {
+                    it.remove();
+                    evictions.increment();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock 보유 상태에서 호출
+    private void trimToSize() {
+        Iterator<Key> it = entries.keySet().iterator();
+        while (entries.size() > maxEntries && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private record Key(String category, String mode, int page, int size) { }
+
+    private record Entry(Object value, Set<Integer> postIds) { }
+}
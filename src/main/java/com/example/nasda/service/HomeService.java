@@ -1,10 +1,9 @@
 package com.example.nasda.service;
 
-import com.example.nasda.domain.PostImageEntity;
 import com.example.nasda.dto.post.HomePostDto;
-import com.example.nasda.repository.PostImageRepository;
-import com.example.nasda.repository.PostRepository;
+import com.example.nasda.repository.PostCardRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,25 +13,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class HomeService {
 
-    private final PostRepository postRepository;
-    private final PostImageRepository postImageRepository;
+    // 전체 테이블을 읽지 않도록 홈 카드 개수 상한
+    private static final int HOME_LIMIT = 30;
+
+    private final PostCardRepository postCardRepository;
 
     @Transactional(readOnly = true)
     public List<HomePostDto> getHomePosts() {
-        return postRepository.findAllByOrderByCreatedAtDesc()
-                .stream()
-                .map(post -> {
-                    String imageUrl = postImageRepository
-                            .findFirstByPost_PostIdOrderBySortOrderAsc(post.getPostId())
-                            .map(PostImageEntity::getImageUrl)
-                            .orElse(null);
-
-                    return new HomePostDto(
-                            post.getPostId(),
-                            post.getTitle(),
-                            imageUrl
-                    );
-                })
-                .toList();
+        return postCardRepository.findHomeCards(PageRequest.of(0, HOME_LIMIT));
     }
 }
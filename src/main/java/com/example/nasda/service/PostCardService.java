@@ -0,0 +1,132 @@
+package com.example.nasda.service;
+
+import com.example.nasda.domain.PostCardEntity;
+import com.example.nasda.domain.PostEntity;
+import com.example.nasda.domain.PostImageEntity;
+import com.example.nasda.dto.search.SearchDocument;
+import com.example.nasda.repository.PostCardRepository;
+import com.example.nasda.repository.PostImageRepository;
+import com.example.nasda.service.search.PostSearchEngine;
+import com.example.nasda.service.search.SearchResultCache;
+import com.example.nasda.service.search.SearchSuggester;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * post_cards 읽기 모델 갱신 담당 (+ 검색 인덱스, 검색 결과 캐시, 자동완성 사전).
+ * 글/이미지/댓글/닉네임을 바꾸는 서비스가 자기 트랜잭션 안에서 호출합니다 (롤백 시 같이 롤백).
+ * 검색 인덱스/자동완성은 메모리에 있으므로 커밋된 뒤에만 반영됩니다.
+ * 검색 결과 캐시는 인덱스 반영 뒤에 지워야 하므로 항상 인덱스 호출 다음에 호출합니다.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PostCardService {
+
+    private final PostCardRepository postCardRepository;
+    private final PostImageRepository postImageRepository;
+    private final PostSearchEngine postSearchEngine;
+    private final SearchResultCache searchResultCache;
+    private final SearchSuggester searchSuggester;
+    private final ContentVersionService contentVersionService;
+
+    // 🔹 글 생성
+    public void created(PostEntity post) {
+        postCardRepository.save(
+                PostCardEntity.builder()
+                        .postId(post.getPostId())
+                        .userId(post.getUser() != null ? post.getUser().getUserId() : null)
+                        .nickname(post.getUser() != null ? post.getUser().getNickname() : null)
+                        .categoryId(post.getCategory().getCategoryId())
+                        .categoryName(post.getCategory().getCategoryName())
+                        .title(post.getTitle())
+                        .createdAt(post.getCreatedAt())
+                        .updatedAt(post.getUpdatedAt())
+                        .build()
+        );
+        SearchDocument doc = SearchDocument.from(post);
+        postSearchEngine.upsert(doc);
+        searchResultCache.postChanged(doc);
+        suggestPost(post);
+    }
+
+    // 🔹 제목/카테고리 수정 (post 는 flush 된 상태여야 updatedAt 이 새 값)
+    public void updated(PostEntity post) {
+        postCardRepository.findById(post.getPostId())
+                .ifPresentOrElse(
+                        card -> card.updatePost(post.getCategory(), post.getTitle(), post.getUpdatedAt()),
+                        () -> created(post)
+                );
+        SearchDocument doc = SearchDocument.from(post);
+        postSearchEngine.upsert(doc);
+        searchResultCache.postChanged(doc);
+        suggestPost(post);
+    }
+
+    private void suggestPost(PostEntity post) {
+        searchSuggester.postChanged(
+                post.getPostId(),
+                post.getUser() != null ? post.getUser().getUserId() : null,
+                post.getTitle(),
+                post.getCategory().getCategoryName()
+        );
+    }
+
+    // 🔹 대표 이미지 다시 계산 (이미지 추가/교체 후, 썸네일 생성 후)
+    public void imagesChanged(Integer postId) {
+        PostImageEntity first = postImageRepository.findFirstByPost_PostIdOrderBySortOrderAscImageIdAsc(postId).orElse(null);
+
+        postCardRepository.findById(postId)
+                .ifPresent(card -> card.changeImage(first));
+    }
+
+    // 🔹 글 삭제
+    public void deleted(Integer postId) {
+        postCardRepository.deleteById(postId);
+        postSearchEngine.remove(postId);
+        searchResultCache.postRemoved(postId);
+        searchSuggester.postRemoved(postId);
+    }
+
+    // 🔹 댓글 수 +/- (벌크 update, 카드 엔티티 로딩 없음)
+    public void commentAdded(Integer postId) {
+        postCardRepository.addCommentCount(postId, 1);
+        searchSuggester.commentCountChanged(postId, 1);
+    }
+
+    public void commentRemoved(Integer postId) {
+        postCardRepository.addCommentCount(postId, -1);
+        searchSuggester.commentCountChanged(postId, -1);
+    }
+
+    // 🔹 닉네임 변경 / 탈퇴
+    public void nicknameChanged(Integer userId, String nickname) {
+        postCardRepository.updateNickname(userId, nickname);
+        postSearchEngine.nicknameChanged(userId, nickname);
+        searchResultCache.authorChanged();
+        searchSuggester.nicknameChanged(userId, nickname);
+        contentVersionService.authorsChanged();
+    }
+
+    public void authorRemoved(Integer userId) {
+        postCardRepository.setAuthorNull(userId);
+        postSearchEngine.authorRemoved(userId);
+        searchResultCache.authorChanged();
+        searchSuggester.userRemoved(userId);
+        contentVersionService.authorsChanged();
+    }
+
+    // ✅ 기동 시 카드가 없는 기존 글 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingCards() {
+        int inserted = postCardRepository.backfillMissing();
+        if (inserted > 0) {
+            log.info("post_cards 백필: {}건", inserted);
+        }
+    }
+}
@@ -3,11 +3,14 @@ package com.example.nasda.service;
 import com.example.nasda.domain.PostEntity;
 import com.example.nasda.domain.PostImageEntity;
 import com.example.nasda.repository.PostImageRepository;
+import com.example.nasda.service.image.ImageMetadata;
+import com.example.nasda.service.image.ThumbnailService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -16,6 +19,9 @@ public class PostImageService {
 
     private final PostImageRepository postImageRepository;
     private final FileStorageService fileStorageService;
+    private final HomeFeedCache homeFeedCache;
+    private final PostCardService postCardService;
+    private final ThumbnailService thumbnailService;
 
     @Transactional
     public void addImages(PostEntity post, List<MultipartFile> files) {
@@ -23,23 +29,48 @@ public class PostImageService {
 
         int order = 0;
         boolean first = true;
+        List<PostImageEntity> images = new ArrayList<>();
 
         for (MultipartFile file : files) {
             if (file == null || file.isEmpty()) continue;
 
             String url = fileStorageService.saveImage(file);
-
-            postImageRepository.save(
-                    PostImageEntity.builder()
-                            .post(post)
-                            .imageUrl(url)
-                            .sortOrder(order++)
-                            .isRepresentative(first)
-                            .build()
-            );
+            ImageMetadata meta = metadataOf(url);
+
+            images.add(PostImageEntity.builder()
+                    .post(post)
+                    .imageUrl(url)
+                    .sortOrder(order++)
+                    .isRepresentative(first)
+                    .width(meta.width())
+                    .height(meta.height())
+                    .dominantColor(meta.dominantColor())
+                    .blurHash(meta.blurHash())
+                    .build());
 
             first = false;
         }
+
+        // ✅ 시퀀스 id라 한 번의 배치 insert (hibernate.jdbc.batch_size)
+        List<Integer> savedIds = postImageRepository.saveAll(images).stream()
+                .map(PostImageEntity::getImageId)
+                .toList();
+
+        // ✅ 대표 이미지가 바뀌었으므로 카드 갱신 + 이 글이 들어있는 홈 피드 페이지만 제거
+        Integer postId = post.getPostId();
+        postCardService.imagesChanged(postId);
+        homeFeedCache.afterCommit(() -> homeFeedCache.evictPost(postId));
+
+        // ✅ 썸네일은 커밋 후 백그라운드에서 (준비 전까지 카드/상세는 원본)
+        thumbnailService.scheduleAfterCommit(savedIds);
+    }
+
+    // ✅ 크기/대표색/blurhash: 같은 내용이 이미 있으면 그 값, 없으면 헤더와 축소 샘플만 읽음
+    // (원격 저장소면 로컬 경로가 없으므로 비워 두고 썸네일 작업이 원본을 받을 때 같이 채움)
+    private ImageMetadata metadataOf(String url) {
+        return postImageRepository.findFirstByImageUrlAndWidthIsNotNull(url)
+                .map(img -> new ImageMetadata(img.getWidth(), img.getHeight(), img.getDominantColor(), img.getBlurHash()))
+                .orElseGet(() -> ImageMetadata.readQuietly(fileStorageService.pathOf(url)));
     }
 
     @Transactional
@@ -52,6 +83,7 @@ public class PostImageService {
         List<PostImageEntity> oldImages =
                 postImageRepository.findByPost_PostIdOrderBySortOrderAsc(postId);
 
+        // 참조 해제 (다른 글이 같은 파일을 쓰지 않을 때만 커밋 후 원본+썸네일 삭제)
         for (PostImageEntity img : oldImages) {
             fileStorageService.deleteByUrl(img.getImageUrl());
         }
@@ -62,12 +94,4 @@ public class PostImageService {
         // 새 이미지 저장
         addImages(post, newFiles);
     }
-
-    @Transactional(readOnly = true)
-    public List<String> getImageUrls(Integer postId) {
-        return postImageRepository.findByPost_PostIdOrderBySortOrderAsc(postId)
-                .stream()
-                .map(PostImageEntity::getImageUrl)
-                .toList();
-    }
 }
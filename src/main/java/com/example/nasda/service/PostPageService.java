@@ -0,0 +1,138 @@
+package com.example.nasda.service;
+
+import com.example.nasda.domain.UserEntity;
+import com.example.nasda.domain.UserRepository;
+import com.example.nasda.dto.comment.CommentViewDto;
+import com.example.nasda.dto.post.PostDetail;
+import com.example.nasda.dto.post.PostViewDto;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 게시글 상세 화면 조립.
+ * 서로 의존하지 않는 조회(글+이미지 / 보는 사람 → 댓글)를 가상 스레드 두 개에서 동시에 돌립니다.
+ * 화면 지연은 "모든 쿼리의 합"이 아니라 "가장 긴 경로(사용자 → 댓글)" 수준이 됩니다.
+ * - 각 작업은 자기 트랜잭션(커넥션)을 쓰므로, 모든 화면의 작업을 합쳐 동시에 DB를 쓰는 수를
+ *   app.post-page.max-concurrent-queries 로 제한 (Hikari 풀을 상세 화면이 다 차지하지 않도록)
+ * - 시간 초과/실패 시 남은 작업은 interrupt 로 취소 (허가 대기 중이면 바로 빠짐)
+ */
+@Service
+public class PostPageService {
+
+    private final PostService postService;
+    private final CommentService commentService;
+    private final UserRepository userRepository;
+    private final long timeoutMillis;
+
+    // 한 화면은 한 번에 최대 2개, 전체로는 permits 개까지만 커넥션을 씀
+    private final Semaphore queryPermits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public PostPageService(PostService postService,
+                           CommentService commentService,
+                           UserRepository userRepository,
+                           @Value("${app.post-page.timeout-ms:3000}") long timeoutMillis,
+                           @Value("${app.post-page.max-concurrent-queries:4}") int maxConcurrentQueries) {
+        this.postService = postService;
+        this.commentService = commentService;
+        this.userRepository = userRepository;
+        this.timeoutMillis = timeoutMillis;
+        this.queryPermits = new Semaphore(maxConcurrentQueries);
+    }
+
+    public record PostPage(PostViewDto post, Page<CommentViewDto> comments, String nickname) {}
+
+    private record Viewer(Integer userId, String nickname) {
+        static final Viewer GUEST = new Viewer(null, null);
+    }
+
+    private record ViewerComments(Viewer viewer, Page<CommentViewDto> comments) {}
+
+    /**
+     * @param loginId 요청 스레드에서 꺼낸 로그인 아이디 (SecurityContext는 스레드 로컬이라 작업 스레드에서는 비어 있음)
+     */
+    public PostPage load(Integer postId, String loginId, int page, int size) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        // CompletableFuture.cancel 은 실행 중인 스레드를 interrupt 하지 않으므로 submit 의 Future 사용
+        Future<PostDetail> postF = executor.submit(
+                () -> withPermit(deadline, () -> postService.getDetail(postId)));
+        Future<ViewerComments> commentsF = executor.submit(() -> {
+            Viewer viewer = withPermit(deadline, () -> findViewer(loginId));
+            return new ViewerComments(viewer, withPermit(deadline,
+                    () -> commentService.getCommentsPage(postId, page, size, viewer.userId())));
+        });
+
+        List<Future<?>> all = List.of(postF, commentsF);
+        PostDetail detail;
+        ViewerComments viewerComments;
+        try {
+            detail = postF.get(remaining(deadline), TimeUnit.NANOSECONDS);
+            viewerComments = commentsF.get(remaining(deadline), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            all.forEach(f -> f.cancel(true));
+            // 기존처럼 "게시글이 존재하지 않습니다." 등 원래 예외를 그대로 전달
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof TimeoutException) {
+                throw new IllegalStateException("게시글 화면 로딩 시간이 초과되었습니다.", cause);
+            }
+            throw new IllegalStateException("게시글 화면을 불러오지 못했습니다.", cause);
+        } catch (TimeoutException e) {
+            all.forEach(f -> f.cancel(true));
+            throw new IllegalStateException("게시글 화면 로딩 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            all.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("게시글 화면 로딩이 중단되었습니다.", e);
+        }
+
+        Viewer viewer = viewerComments.viewer();
+        PostViewDto post = detail.toView(viewer.userId());
+
+        return new PostPage(post, viewerComments.comments(), viewer.nickname());
+    }
+
+    // 허가를 받은 동안만 DB 작업 (남은 시간 안에 못 받으면 TimeoutException)
+    private <T> T withPermit(long deadline, Callable<T> query) throws Exception {
+        if (!queryPermits.tryAcquire(remaining(deadline), TimeUnit.NANOSECONDS)) {
+            throw new TimeoutException("게시글 화면 조회 대기 시간 초과");
+        }
+        try {
+            return query.call();
+        } finally {
+            queryPermits.release();
+        }
+    }
+
+    private static long remaining(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    // 기존 getCurrentUserIdOrNull + getCurrentNicknameOrNull 두 번 조회 → 한 번으로
+    private Viewer findViewer(String loginId) {
+        if (loginId == null) return Viewer.GUEST;
+
+        Optional<UserEntity> user = userRepository.findByLoginId(loginId);
+        return user.map(u -> new Viewer(u.getUserId(), u.getNickname()))
+                .orElse(Viewer.GUEST);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,25 +1,38 @@
 package com.example.nasda.service;
 
 import com.example.nasda.domain.CategoryEntity;
+import com.example.nasda.domain.PostCardEntity;
 import com.example.nasda.domain.PostEntity;
-import com.example.nasda.domain.PostImageEntity;
 import com.example.nasda.domain.UserEntity;
 import com.example.nasda.domain.UserRepository;
+import com.example.nasda.dto.post.HomeFeedCursor;
+import com.example.nasda.dto.post.HomeFeedDto;
 import com.example.nasda.dto.post.HomePostDto;
+import com.example.nasda.dto.post.PostDetail;
 import com.example.nasda.dto.post.PostViewDto;
 import com.example.nasda.repository.CategoryRepository;
 import com.example.nasda.repository.CommentRepository;
+import com.example.nasda.repository.PostCardRepository;
 import com.example.nasda.repository.PostImageRepository;
 import com.example.nasda.repository.PostRepository;
+import com.example.nasda.service.search.PostSearchEngine;
+import com.example.nasda.service.search.SearchAnalyzer;
+import com.example.nasda.service.search.SearchResultCache;
+import com.example.nasda.service.search.SearchHits;
+import com.example.nasda.service.search.SearchType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -31,6 +44,12 @@ public class PostService {
     private final UserRepository userRepository;
     private final PostImageRepository postImageRepository;
     private final CommentRepository commentRepository;
+    private final HomeFeedCache homeFeedCache;
+    private final PostCardService postCardService;
+    private final PostCardRepository postCardRepository;
+    private final PostSearchEngine postSearchEngine;
+    private final SearchResultCache searchResultCache;
+    private final FileStorageService fileStorageService;
 
     // 🔹 게시글 단건 조회
     @Transactional(readOnly = true)
@@ -39,41 +58,18 @@ public class PostService {
                 .orElseThrow(() -> new IllegalArgumentException("게시글이 존재하지 않습니다."));
     }
 
-    // ✅ (추가) postId로 이미지 객체 리스트 만들기: [id, url, sortOrder]
+    // 🔹 상세 화면용 조회: 글/작성자/카테고리/이미지를 한 번에 읽어서 DTO로
     @Transactional(readOnly = true)
-    public List<PostViewDto.ImageDto> getImageItems(Integer postId) {
-        return postImageRepository.findAllByPost_PostIdOrderBySortOrderAsc(postId)
-                .stream()
-                .map(img -> new PostViewDto.ImageDto(
-                        img.getImageId(),
-                        img.getImageUrl(),
-                        img.getSortOrder()
-                ))
-                .toList();
-    }
-
-    // ✅ (기존) postId로 이미지 URL 리스트
-    @Transactional(readOnly = true)
-    public List<String> getImageUrls(Integer postId) {
-        return postImageRepository.findAllByPost_PostIdOrderBySortOrderAsc(postId)
-                .stream()
-                .map(PostImageEntity::getImageUrl)
-                .toList();
+    public PostDetail getDetail(Integer postId) {
+        return postRepository.findDetailByPostId(postId)
+                .map(PostDetail::from)
+                .orElseThrow(() -> new IllegalArgumentException("게시글이 존재하지 않습니다."));
     }
 
-    // 🔹 홈 게시글 목록 (최신 30개 + 대표 이미지 1장)
+    // 🔹 홈 게시글 목록 (최신 30개 + 대표 이미지 1장) - 카드 쿼리 1번
     @Transactional(readOnly = true)
     public List<HomePostDto> getHomePosts() {
-        return postRepository.findTop30ByOrderByCreatedAtDesc().stream()
-                .map(post -> {
-                    String imageUrl = postImageRepository
-                            .findFirstByPost_PostIdOrderBySortOrderAsc(post.getPostId())
-                            .map(PostImageEntity::getImageUrl)
-                            .orElse(null);
-
-                    return new HomePostDto(post.getPostId(), post.getTitle(), imageUrl);
-                })
-                .toList();
+        return postCardRepository.findHomeCards(PageRequest.of(0, 30));
     }
 
     // 🔹 게시글 생성
@@ -90,8 +86,14 @@ public class PostService {
                 .title(title)
                 .description(description)
                 .build();
+        post.indexForSearch(SearchAnalyzer.fullTextTokens(title), SearchAnalyzer.fullTextTokens(description));
+
+        PostEntity saved = postRepository.save(post);
+        postCardService.created(saved);
 
-        return postRepository.save(post);
+        // ✅ 새 글은 해당 카테고리/전체 첫 페이지 맨 앞에 들어감
+        homeFeedCache.afterCommit(() -> homeFeedCache.evictCategory(category.getCategoryName()));
+        return saved;
     }
 
     // 🔹 게시글 수정
@@ -107,7 +109,21 @@ public class PostService {
         CategoryEntity category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new IllegalArgumentException("카테고리 없음"));
 
+        String oldCategoryName = post.getCategory().getCategoryName();
         post.update(category, title, description);
+        post.indexForSearch(SearchAnalyzer.fullTextTokens(title), SearchAnalyzer.fullTextTokens(description));
+        // @UpdateTimestamp 는 flush 때 채워지므로 먼저 내보내고 카드에 같은 시각을 복사
+        postRepository.flush();
+        postCardService.updated(post);
+
+        homeFeedCache.afterCommit(() -> {
+            homeFeedCache.evictPost(postId);
+            // 카테고리 이동: 빠진 쪽과 들어간 쪽(+전체) 모두 뒤 페이지가 한 칸씩 밀림
+            if (!oldCategoryName.equals(category.getCategoryName())) {
+                homeFeedCache.evictCategory(oldCategoryName);
+                homeFeedCache.evictCategory(category.getCategoryName());
+            }
+        });
     }
 
     // 🔥 게시글 삭제 (FK 해결 핵심)
@@ -118,14 +134,20 @@ public class PostService {
             throw new IllegalStateException("삭제 권한 없음");
         }
 
-        // ✅ 1. 이미지 삭제
+        // ✅ 1. 이미지 삭제 (파일은 참조 해제 → 이 글만 쓰던 파일이면 커밋 후 삭제)
+        postImageRepository.findAllByPost_PostIdOrderBySortOrderAsc(postId)
+                .forEach(img -> fileStorageService.deleteByUrl(img.getImageUrl()));
         postImageRepository.deleteByPost_PostId(postId);
 
         // ✅ 2. 댓글 삭제
         commentRepository.deleteByPost_PostId(postId);
 
         // ✅ 3. 게시글 삭제
+        String categoryName = post.getCategory().getCategoryName();
         postRepository.delete(post);
+        postCardService.deleted(postId);
+
+        homeFeedCache.afterCommit(() -> homeFeedCache.evictCategory(categoryName));
     }
 
     // ✅ 마이페이지: 내 게시글 전체 목록
@@ -140,87 +162,127 @@ public class PostService {
         return postRepository.countByUser_UserId(userId);
     }
 
-    // ✅ 마이페이지: 내 최근 게시글 목록
+    // ✅ 마이페이지: 내 최근 게시글 목록 (post_cards에서 바로, 글마다 이미지 조회 X)
     @Transactional(readOnly = true)
     public List<PostViewDto> getMyRecentPosts(Integer userId, int limit) {
 
         // 지금은 Repository가 Top4 기반이라 limit은 참고값(추후 PageRequest로 개선 가능)
-        List<PostEntity> posts = postRepository.findTop4ByUser_UserIdOrderByCreatedAtDesc(userId);
-
-        return posts.stream()
-                .map(post -> {
-                    List<String> images = getImageUrls(post.getPostId());
-                    List<PostViewDto.ImageDto> imageItems = getImageItems(post.getPostId());
-
-                    return new PostViewDto(
-                            post.getPostId(),
-                            post.getTitle(),
-                            post.getDescription(), // PostViewDto.content 에 description 매핑
-                            post.getCategory().getCategoryName(),
-                            new PostViewDto.AuthorDto(post.getUser().getNickname()),
-                            images,
-                            imageItems,
-                            post.getCreatedAt(),
-                            true
-                    );
-                })
+        List<PostCardEntity> cards = postCardRepository.findTop4ByUserIdOrderByCreatedAtDesc(userId);
+
+        return cards.stream()
+                .map(card -> new PostViewDto(
+                        card.getPostId(),
+                        card.getTitle(),
+                        "", // 마이페이지 카드에서는 본문을 쓰지 않음
+                        card.getCategoryName(),
+                        new PostViewDto.AuthorDto(card.getNickname()),
+                        card.getCardImageUrl() != null ? List.of(card.getCardImageUrl()) : List.of(),
+                        List.of(),
+                        card.getCreatedAt(),
+                        true
+                ))
                 .toList();
     }
 
     // ✅ 홈: 카테고리 + 페이징 (무한스크롤/카테고리 버튼 API용)
     @Transactional(readOnly = true)
     public Page<HomePostDto> getHomePostsByCategory(String category, Pageable pageable) {
+        // ✅ 앞쪽 N 페이지는 모든 방문자에게 동일 → 캐시
+        if (homeFeedCache.isCacheable(pageable.getPageNumber())) {
+            return homeFeedCache.getOrLoad(category, "page", pageable.getPageNumber(), pageable.getPageSize(),
+                    () -> loadHomePostsByCategory(category, pageable), Page::getContent);
+        }
+        return loadHomePostsByCategory(category, pageable);
+    }
 
-        Page<PostEntity> page;
-
+    private Page<HomePostDto> loadHomePostsByCategory(String category, Pageable pageable) {
         // category가 null/빈값/"전체"면 전체 목록
         if (category == null || category.isBlank() || "전체".equals(category)) {
-            page = postRepository.findAllByOrderByCreatedAtDesc(pageable);
+            return postCardRepository.findHomeCardPage(pageable);
+        }
+        return postCardRepository.findHomeCardPageByCategoryName(category, pageable);
+    }
+
+    // ✅ 홈: 커서(keyset) 기반 무한스크롤 - OFFSET/count 쿼리 없이 다음 카드만 조회
+    @Transactional(readOnly = true)
+    public HomeFeedDto getHomeFeed(String category, String cursor, int size) {
+        int safeSize = Math.min(Math.max(1, size), 60);
+        HomeFeedCursor after = HomeFeedCursor.decode(cursor);
+
+        // ✅ 첫 화면(커서 없음)은 카테고리별 캐시에서
+        if (after == null) {
+            return homeFeedCache.getOrLoad(category, "cursor", 0, safeSize,
+                    () -> loadHomeFeed(category, null, safeSize), HomeFeedDto::items);
+        }
+        return loadHomeFeed(category, after, safeSize);
+    }
+
+    private HomeFeedDto loadHomeFeed(String category, HomeFeedCursor after, int safeSize) {
+        // 다음 페이지 존재 여부 확인용으로 1개 더 조회
+        Pageable limit = PageRequest.of(0, safeSize + 1);
+        boolean all = category == null || category.isBlank() || "전체".equals(category);
+
+        List<HomePostDto> rows;
+        if (after == null) {
+            rows = all
+                    ? postCardRepository.findHomeCards(limit)
+                    : postCardRepository.findHomeCardsByCategoryName(category, limit);
         } else {
-            page = postRepository.findByCategory_CategoryNameOrderByCreatedAtDesc(category, pageable);
+            rows = all
+                    ? postCardRepository.findHomeCardsAfter(after.createdAt(), after.postId(), limit)
+                    : postCardRepository.findHomeCardsByCategoryNameAfter(category, after.createdAt(), after.postId(), limit);
         }
 
-        return page.map(post -> {
-            String imageUrl = postImageRepository
-                    .findFirstByPost_PostIdOrderBySortOrderAsc(post.getPostId())
-                    .map(PostImageEntity::getImageUrl)
-                    .orElse(null);
+        boolean hasNext = rows.size() > safeSize;
+        List<HomePostDto> items = hasNext ? List.copyOf(rows.subList(0, safeSize)) : rows;
+        String nextCursor = hasNext ? HomeFeedCursor.from(items.get(items.size() - 1)).encode() : null;
 
-            return new HomePostDto(post.getPostId(), post.getTitle(), imageUrl);
-        });
+        return new HomeFeedDto(items, nextCursor, hasNext);
     }
 
-    // ✅ 검색 (header search)
+    // ✅ 검색 (header search) - 검색 엔진(+결과 캐시)에서 점수 순 id 한 페이지 → 카드 조회
     @Transactional(readOnly = true)
-    public List<HomePostDto> searchHomePosts(String keyword, String type) {
+    public Page<HomePostDto> searchHomePosts(String keyword, String type, int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(0, page), Math.min(Math.max(size, 1), 60));
+
         String q = keyword == null ? "" : keyword.trim();
-        if (q.isEmpty()) return List.of();
-
-        String t = (type == null || type.isBlank()) ? "content" : type;
-
-        List<PostEntity> results = switch (t) {
-            case "title" -> postRepository.findByTitleContainingIgnoreCaseOrderByCreatedAtDesc(q);
-            case "author" -> postRepository.findByUser_NicknameContainingIgnoreCaseOrderByCreatedAtDesc(q);
-            case "category" -> postRepository.findByCategory_CategoryNameContainingIgnoreCaseOrderByCreatedAtDesc(q);
-            default -> postRepository.findByDescriptionContainingIgnoreCaseOrderByCreatedAtDesc(q);
-        };
-
-        return results.stream()
-                .map(post -> {
-                    String imageUrl = postImageRepository
-                            .findFirstByPost_PostIdOrderBySortOrderAsc(post.getPostId())
-                            .map(PostImageEntity::getImageUrl)
-                            .orElse(null);
-
-                    return new HomePostDto(post.getPostId(), post.getTitle(), imageUrl);
-                })
+        if (q.isEmpty()) return Page.empty(pageable);
+
+        SearchType searchType = SearchType.from(type);
+
+        // 기동 직후 색인이 준비되기 전에는 기존 LIKE 검색
+        if (!postSearchEngine.isReady()) {
+            String pattern = SearchAnalyzer.escapeLike(q);
+            List<HomePostDto> all = switch (searchType) {
+                case TITLE -> postCardRepository.searchByTitle(pattern);
+                case AUTHOR -> postCardRepository.searchByNickname(pattern);
+                case CATEGORY -> postCardRepository.searchByCategoryName(pattern);
+                case CONTENT -> postCardRepository.searchByDescription(pattern);
+            };
+            int from = (int) Math.min(pageable.getOffset(), all.size());
+            int to = Math.min(from + pageable.getPageSize(), all.size());
+            return new PageImpl<>(all.subList(from, to), pageable, all.size());
+        }
+
+        // 같은 검색어가 반복되면 랭킹 계산은 캐시에서 (카드는 아래에서 매번 새로 읽음)
+        SearchHits hits = searchResultCache.getOrLoad(searchType, q, pageable.getPageNumber(), pageable.getPageSize(),
+                () -> postSearchEngine.search(q, searchType, pageable.getPageNumber(), pageable.getPageSize()));
+        if (hits.postIds().isEmpty()) return new PageImpl<>(List.of(), pageable, hits.total());
+
+        // in 조회는 순서가 없으므로 점수 순으로 다시 정렬
+        Map<Integer, HomePostDto> cards = postCardRepository.findHomeCardsByIds(hits.postIds()).stream()
+                .collect(Collectors.toMap(HomePostDto::id, Function.identity()));
+        List<HomePostDto> content = hits.postIds().stream()
+                .map(cards::get)
+                .filter(Objects::nonNull)
                 .toList();
+
+        return new PageImpl<>(content, pageable, hits.total());
     }
 
     // ✅ 마이페이지: 내 게시글 10개씩 페이징 조회
     @Transactional(readOnly = true)
-    public Page<PostEntity> findByUserId(Integer userId, int page) {
-        Pageable pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
-        return postRepository.findByUser_UserId(userId, pageable);
+    public Page<PostCardEntity> findByUserId(Integer userId, int page) {
+        return postCardRepository.findByUserIdOrderByCreatedAtDesc(userId, PageRequest.of(page, 10));
     }
 }
@@ -6,6 +6,7 @@ import com.example.nasda.dto.UserJoinDto;
 import com.example.nasda.mapper.UserMapper;
 import com.example.nasda.repository.CommentRepository;
 import com.example.nasda.repository.PostRepository;
+import com.example.nasda.service.search.SearchSuggester;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -25,6 +26,8 @@ public class UserService {
     private String verificationCode; // 메모리에 잠시 저장 (실무에선 Redis나 세션을 권장)
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final PostCardService postCardService;
+    private final SearchSuggester searchSuggester;
 
 
     public Optional<UserEntity> findByLoginId(String loginId) {
@@ -40,6 +43,9 @@ public class UserService {
         UserEntity userEntity = userMapper.toEntity(dto);
         userEntity.setPassword(passwordEncoder.encode(dto.getPassword()));
         userRepository.save(userEntity);
+
+        // ✅ 새 닉네임을 자동완성에 추가 (커밋 후)
+        searchSuggester.nicknameChanged(userEntity.getUserId(), userEntity.getNickname());
         return userEntity.getUserId();
     }
 
@@ -67,6 +73,9 @@ public class UserService {
         user.setNickname(nickname);
         user.setEmail(email);
 
+        // ✅ 목록 카드(post_cards)의 작성자 닉네임도 함께 변경
+        postCardService.nicknameChanged(id, nickname);
+
         return user; // Dirty Checking으로 자동 저장됨
     }
 
@@ -195,6 +204,7 @@ public class UserService {
             // 2. 작성한 글과 댓글의 user_id를 DB에서 직접 null로 업데이트
             postRepository.setAuthorNull(userId);
             commentRepository.setAuthorNull(userId);
+            postCardService.authorRemoved(userId);
 
             // 3. 이제 외래 키 제약 조건이 풀렸으므로 유저 삭제 가능
             userRepository.delete(user);
@@ -214,6 +224,7 @@ public class UserService {
         // postRepository와 commentRepository에 우리가 만든 setAuthorNull을 호출하세요.
         postRepository.setAuthorNull(userId);
         commentRepository.setAuthorNull(userId);
+        postCardService.authorRemoved(userId);
 
         // ✅ 3. 유저 삭제
         userRepository.delete(user);
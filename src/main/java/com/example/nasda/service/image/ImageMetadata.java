@@ -0,0 +1,234 @@
+package com.example.nasda.service.image;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * 업로드 이미지의 화면 배치용 정보 (카드/상세가 원본을 받기 전에 자리와 색을 잡을 수 있도록).
+ * - width/height: 헤더만 읽음 (EXIF 회전 반영, 브라우저에 보이는 방향 기준)
+ * - dominantColor / blurHash: 긴 변 64px 정도로 솎아 읽은(subsampling) 작은 이미지에서 계산
+ *   (원본 크기 픽셀 배열을 만들지 않음)
+ * ImageIO가 못 읽는 형식(webp)은 헤더에서 크기만 읽고 색/blurhash 는 null.
+ */
+public record ImageMetadata(Integer width, Integer height, String dominantColor, String blurHash) {
+
+    public static final ImageMetadata UNKNOWN = new ImageMetadata(null, null, null, null);
+
+    private static final int SAMPLE_EDGE = 64;
+    private static final String BASE83 =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+
+    public static ImageMetadata read(Path file) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = iis == null ? null : ImageIO.getImageReaders(iis);
+            if (readers == null || !readers.hasNext()) {
+                return webp(file);
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int w = reader.getWidth(0);
+                int h = reader.getHeight(0);
+
+                int orientation;
+                try (InputStream in = Files.newInputStream(file)) {
+                    orientation = ImageResizer.exifOrientation(in);
+                } catch (IOException e) {
+                    orientation = 1;
+                }
+                boolean swap = orientation >= 5 && orientation <= 8;
+
+                // 픽셀 수 상한 초과는 솎아 읽어도 전체를 풀어야 하므로 크기만
+                BufferedImage sample = null;
+                if ((long) w * h <= ImageResizer.MAX_PIXELS) {
+                    try {
+                        ImageReadParam param = reader.getDefaultReadParam();
+                        int step = Math.max(1, Math.max(w, h) / SAMPLE_EDGE);
+                        param.setSourceSubsampling(step, step, 0, 0);
+                        sample = ImageResizer.orient(reader.read(0, param), orientation);
+                    } catch (IOException | RuntimeException e) {
+                        sample = null; // 크기만이라도
+                    }
+                }
+
+                return new ImageMetadata(swap ? h : w, swap ? w : h,
+                        sample == null ? null : dominantColor(sample),
+                        sample == null ? null : blurHash(ImageResizer.toRgb(sample)));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 실패해도 업로드는 계속 (썸네일 작업이 다시 시도)
+    public static ImageMetadata readQuietly(Path file) {
+        if (file == null) return UNKNOWN;
+        try {
+            return read(file);
+        } catch (IOException | RuntimeException e) {
+            return UNKNOWN;
+        }
+    }
+
+    // =========================
+    // WebP 헤더 (VP8 / VP8L / VP8X)
+    // =========================
+    private static ImageMetadata webp(Path file) throws IOException {
+        byte[] h;
+        try (InputStream in = Files.newInputStream(file)) {
+            h = in.readNBytes(30);
+        }
+        if (h.length < 30 || h[0] != 'R' || h[1] != 'I' || h[2] != 'F' || h[3] != 'F'
+                || h[8] != 'W' || h[9] != 'E' || h[10] != 'B' || h[11] != 'P') {
+            return UNKNOWN;
+        }
+        String chunk = new String(h, 12, 4, StandardCharsets.US_ASCII);
+        return switch (chunk) {
+            case "VP8X" -> new ImageMetadata(1 + le24(h, 24), 1 + le24(h, 27), null, null);
+            case "VP8 " -> new ImageMetadata(le16(h, 26) & 0x3FFF, le16(h, 28) & 0x3FFF, null, null);
+            case "VP8L" -> {
+                int bits = le16(h, 21) | (le16(h, 23) << 16);
+                yield new ImageMetadata((bits & 0x3FFF) + 1, ((bits >>> 14) & 0x3FFF) + 1, null, null);
+            }
+            default -> UNKNOWN;
+        };
+    }
+
+    private static int le16(byte[] b, int at) {
+        return (b[at] & 0xFF) | (b[at + 1] & 0xFF) << 8;
+    }
+
+    private static int le24(byte[] b, int at) {
+        return le16(b, at) | (b[at + 2] & 0xFF) << 16;
+    }
+
+    // =========================
+    // 대표색: 채널당 4비트로 묶은 히스토그램에서 가장 많은 칸의 평균 (투명 픽셀 제외)
+    // =========================
+    static String dominantColor(BufferedImage image) {
+        int[] count = new int[4096];
+        long[] sumR = new long[4096];
+        long[] sumG = new long[4096];
+        long[] sumB = new long[4096];
+
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int argb = image.getRGB(x, y);
+                if ((argb >>> 24) < 128) continue;
+                int r = (argb >> 16) & 0xFF;
+                int g = (argb >> 8) & 0xFF;
+                int b = argb & 0xFF;
+                int bucket = (r >> 4) << 8 | (g >> 4) << 4 | (b >> 4);
+                count[bucket]++;
+                sumR[bucket] += r;
+                sumG[bucket] += g;
+                sumB[bucket] += b;
+            }
+        }
+
+        int best = -1;
+        for (int i = 0; i < count.length; i++) {
+            if (count[i] > 0 && (best < 0 || count[i] > count[best])) best = i;
+        }
+        if (best < 0) return null;
+        return String.format("#%02x%02x%02x",
+                sumR[best] / count[best], sumG[best] / count[best], sumB[best] / count[best]);
+    }
+
+    // =========================
+    // BlurHash (https://blurha.sh 규격, 가로/세로 중 긴 쪽 4칸 · 짧은 쪽 3칸 → 28자)
+    // =========================
+    static String blurHash(BufferedImage image) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        int cx = w >= h ? 4 : 3;
+        int cy = w >= h ? 3 : 4;
+
+        float[] linear = new float[w * h * 3];
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                int rgb = image.getRGB(x, y);
+                int at = (y * w + x) * 3;
+                linear[at] = srgbToLinear((rgb >> 16) & 0xFF);
+                linear[at + 1] = srgbToLinear((rgb >> 8) & 0xFF);
+                linear[at + 2] = srgbToLinear(rgb & 0xFF);
+            }
+        }
+
+        double[][] factors = new double[cx * cy][3];
+        for (int j = 0; j < cy; j++) {
+            for (int i = 0; i < cx; i++) {
+                double normalisation = (i == 0 && j == 0) ? 1 : 2;
+                double r = 0, g = 0, b = 0;
+                for (int y = 0; y < h; y++) {
+                    double cosY = Math.cos(Math.PI * j * y / h);
+                    for (int x = 0; x < w; x++) {
+                        double basis = Math.cos(Math.PI * i * x / w) * cosY;
+                        int at = (y * w + x) * 3;
+                        r += basis * linear[at];
+                        g += basis * linear[at + 1];
+                        b += basis * linear[at + 2];
+                    }
+                }
+                double scale = normalisation / (w * h);
+                factors[j * cx + i] = new double[]{r * scale, g * scale, b * scale};
+            }
+        }
+
+        StringBuilder hash = new StringBuilder();
+        encode83(hash, (cx - 1) + (cy - 1) * 9, 1);
+
+        double maxAc = 0;
+        for (int k = 1; k < factors.length; k++) {
+            for (double v : factors[k]) maxAc = Math.max(maxAc, Math.abs(v));
+        }
+        int quantisedMax = (int) Math.max(0, Math.min(82, Math.floor(maxAc * 166 - 0.5)));
+        double maximumValue = (quantisedMax + 1) / 166.0;
+        encode83(hash, quantisedMax, 1);
+
+        double[] dc = factors[0];
+        encode83(hash, (linearToSrgb(dc[0]) << 16) + (linearToSrgb(dc[1]) << 8) + linearToSrgb(dc[2]), 4);
+        for (int k = 1; k < factors.length; k++) {
+            double[] ac = factors[k];
+            encode83(hash, quantAc(ac[0], maximumValue) * 19 * 19
+                    + quantAc(ac[1], maximumValue) * 19
+                    + quantAc(ac[2], maximumValue), 2);
+        }
+        return hash.toString();
+    }
+
+    private static int quantAc(double value, double maximumValue) {
+        double v = value / maximumValue;
+        double signPow = Math.copySign(Math.pow(Math.abs(v), 0.5), v);
+        return (int) Math.max(0, Math.min(18, Math.floor(signPow * 9 + 9.5)));
+    }
+
+    private static float srgbToLinear(int value) {
+        double v = value / 255.0;
+        return (float) (v <= 0.04045 ? v / 12.92 : Math.pow((v + 0.055) / 1.055, 2.4));
+    }
+
+    private static int linearToSrgb(double value) {
+        double v = Math.max(0, Math.min(1, value));
+        return v <= 0.0031308
+                ? (int) Math.round(v * 12.92 * 255)
+                : (int) Math.round((1.055 * Math.pow(v, 1 / 2.4) - 0.055) * 255);
+    }
+
+    private static void encode83(StringBuilder out, int value, int length) {
+        for (int i = 1; i <= length; i++) {
+            int digit = (value / (int) Math.pow(83, length - i)) % 83;
+            out.append(BASE83.charAt(digit));
+        }
+    }
+}
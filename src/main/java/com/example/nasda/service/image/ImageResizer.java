@@ -0,0 +1,213 @@
+package com.example.nasda.service.image;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * 썸네일용 이미지 처리 (JDK ImageIO만 사용).
+ * - 크기를 먼저 보고 솎아 읽음 (픽셀 수 상한 초과는 디코딩하지 않음)
+ * - JPEG의 EXIF 회전값을 적용 (원본은 브라우저가 돌려서 보여주므로 썸네일도 같은 방향이어야 함)
+ * - 절반씩 줄여 가며 축소 (한 번에 크게 줄이면 bilinear 라도 계단 현상이 생김)
+ * - 투명 배경은 흰색으로 채운 뒤 JPEG 로 저장
+ */
+public final class ImageResizer {
+
+    private ImageResizer() {
+    }
+
+    // 디코딩할 원본 픽셀 수 상한 (1억 화소, 휴대폰 최대 해상도 정도). 파일은 작아도 크기만 큰 PNG 등(압축 폭탄) 방지
+    public static final long MAX_PIXELS = 100_000_000L;
+
+    /**
+     * 가로 targetWidth 썸네일을 만들 만큼만 읽음 (EXIF 회전 적용 후 기준).
+     * 헤더에서 크기를 먼저 보고, 목표의 2배 이상은 남기도록 행/열을 솎아(subsampling) 디코딩
+     * → 원본 크기 픽셀 배열을 만들지 않음. 나머지 축소는 shrinkToWidth 가 부드럽게.
+     * 읽을 수 없는 형식(webp 등)이거나 픽셀 수가 MAX_PIXELS 를 넘으면 null.
+     */
+    public static BufferedImage read(Path file, int targetWidth) throws IOException {
+        int orientation;
+        try (InputStream in = Files.newInputStream(file)) {
+            orientation = exifOrientation(in);
+        } catch (IOException e) {
+            orientation = 1; // 헤더가 잘려 있으면 회전 없이
+        }
+        boolean swap = orientation >= 5 && orientation <= 8;
+
+        try (ImageInputStream iis = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = iis == null ? null : ImageIO.getImageReaders(iis);
+            if (readers == null || !readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int w = reader.getWidth(0);
+                int h = reader.getHeight(0);
+                if ((long) w * h > MAX_PIXELS) return null;
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, (swap ? h : w) / (targetWidth * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return orient(reader.read(0, param), orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 가로 maxWidth 이하로 비율 유지 축소. 이미 작으면 null (원본을 그대로 쓰면 됨).
+     */
+    public static BufferedImage shrinkToWidth(BufferedImage src, int maxWidth) {
+        if (src.getWidth() <= maxWidth) return null;
+
+        int targetHeight = Math.max(1, (int) Math.round((double) src.getHeight() * maxWidth / src.getWidth()));
+        BufferedImage current = toRgb(src);
+        int w = current.getWidth();
+        int h = current.getHeight();
+
+        while (w > maxWidth) {
+            w = Math.max(maxWidth, w / 2);
+            h = (w == maxWidth) ? targetHeight : Math.max(1, h / 2);
+            current = draw(current, w, h);
+        }
+        return current;
+    }
+
+    public static void writeJpeg(BufferedImage image, float quality, OutputStream out) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static BufferedImage draw(BufferedImage src, int w, int h) {
+        BufferedImage out = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(src, 0, 0, w, h, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    static BufferedImage toRgb(BufferedImage src) {
+        if (src.getType() == BufferedImage.TYPE_INT_RGB) return src;
+        BufferedImage out = new BufferedImage(src.getWidth(), src.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, src.getWidth(), src.getHeight());
+            g.drawImage(src, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    // =========================
+    // EXIF 회전 (JPEG APP1 의 0x0112 태그만 읽음)
+    // =========================
+
+    static BufferedImage orient(BufferedImage src, int orientation) {
+        if (orientation <= 1 || orientation > 8) return src;
+
+        int w = src.getWidth();
+        int h = src.getHeight();
+        boolean swap = orientation >= 5;
+        AffineTransform t = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { t.translate(w, 0); t.scale(-1, 1); }
+            case 3 -> { t.translate(w, h); t.rotate(Math.PI); }
+            case 4 -> { t.translate(0, h); t.scale(1, -1); }
+            case 5 -> { t.rotate(-Math.PI / 2); t.scale(-1, 1); }
+            case 6 -> { t.translate(h, 0); t.rotate(Math.PI / 2); }
+            case 7 -> { t.scale(-1, 1); t.translate(-h, 0); t.translate(0, w); t.rotate(3 * Math.PI / 2); }
+            case 8 -> { t.translate(0, w); t.rotate(3 * Math.PI / 2); }
+            default -> { }
+        }
+
+        BufferedImage out = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, out.getWidth(), out.getHeight());
+            g.drawImage(src, t, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    static int exifOrientation(InputStream raw) throws IOException {
+        DataInputStream in = new DataInputStream(raw);
+        if (in.readUnsignedShort() != 0xFFD8) return 1; // JPEG 아님
+
+        while (true) {
+            int marker = in.readUnsignedShort();
+            if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA) return 1; // 이미지 데이터 시작 전까지만
+            int length = in.readUnsignedShort() - 2;
+            if (length < 0) return 1;
+            if (marker != 0xFFE1) {
+                in.skipNBytes(length);
+                continue;
+            }
+
+            byte[] app1 = in.readNBytes(length);
+            if (app1.length < 14 || app1[0] != 'E' || app1[1] != 'x' || app1[2] != 'i' || app1[3] != 'f') return 1;
+
+            int tiff = 6;
+            boolean little = app1[tiff] == 'I';
+            int ifd = tiff + readInt(app1, tiff + 4, little);
+            if (ifd + 2 > app1.length) return 1;
+            int entries = readShort(app1, ifd, little);
+            for (int i = 0; i < entries; i++) {
+                int entry = ifd + 2 + i * 12;
+                if (entry + 12 > app1.length) return 1;
+                if (readShort(app1, entry, little) == 0x0112) {
+                    return readShort(app1, entry + 8, little);
+                }
+            }
+            return 1;
+        }
+    }
+
+    private static int readShort(byte[] b, int at, boolean little) {
+        int b0 = b[at] & 0xFF;
+        int b1 = b[at + 1] & 0xFF;
+        return little ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static int readInt(byte[] b, int at, boolean little) {
+        int hi = readShort(b, little ? at + 2 : at, little);
+        int lo = readShort(b, little ? at : at + 2, little);
+        return (hi << 16) | lo;
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.nasda.service.image;
+
+import com.example.nasda.domain.PostImageEntity;
+import com.example.nasda.repository.PostImageRepository;
+import com.example.nasda.service.FileStorageService;
+import com.example.nasda.service.HomeFeedCache;
+import com.example.nasda.service.PostCardService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 썸네일 생성 (카드용 가로 400 / 상세용 가로 1080, JPEG).
+ * - 업로드 요청은 원본 저장까지만 하고, 썸네일은 커밋 후 작은 전용 풀에서 만듭니다.
+ * - 대기열이 가득 차면 건너뛰고 원본을 계속 보여줌 (다음 기동 시 백필에서 다시 시도)
+ * - 만들어지면 post_images.card_url/view_url, 대표 이미지면 post_cards.thumbnail_url 갱신 + 홈 피드 캐시에서 그 글 제거
+ * - 크기/대표색/blurhash(ImageMetadata)가 비어 있는 이미지도 같은 작업에서 채움
+ */
+@Log4j2
+@Service
+public class ThumbnailService {
+
+    public static final int CARD_WIDTH = 400;
+    public static final int VIEW_WIDTH = 1080;
+    // 원본 옆 파생 파일 이름 접미사 (/uploads/{원본}_w400.jpg), 원본이 지워질 때 같이 지움
+    public static final List<String> VARIANTS = List.of("w" + CARD_WIDTH, "w" + VIEW_WIDTH);
+    private static final float JPEG_QUALITY = 0.82f;
+    private static final int BACKFILL_BATCH = 200;
+
+    private final PostImageRepository postImageRepository;
+    private final FileStorageService fileStorageService;
+    private final PostCardService postCardService;
+    private final HomeFeedCache homeFeedCache;
+    private final TransactionTemplate tx;
+
+    // 디코딩한 원본(최대 10MB 파일 → 수십 MB 픽셀)이 동시에 몇 장만 메모리에 있도록 스레드 수 제한
+    private final ExecutorService executor;
+    // 실행 중 + 대기 중인 작업 수 상한 (업로드는 tryAcquire, 백필은 acquire 로 기다림)
+    private final Semaphore slots;
+
+    public ThumbnailService(PostImageRepository postImageRepository,
+                            FileStorageService fileStorageService,
+                            PostCardService postCardService,
+                            HomeFeedCache homeFeedCache,
+                            TransactionTemplate tx,
+                            @Value("${app.thumbnail.threads:2}") int threads,
+                            @Value("${app.thumbnail.queue-size:200}") int queueSize) {
+        this.postImageRepository = postImageRepository;
+        this.fileStorageService = fileStorageService;
+        this.postCardService = postCardService;
+        this.homeFeedCache = homeFeedCache;
+        this.tx = tx;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread t = new Thread(r, "thumbnail-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        this.slots = new Semaphore(threads + queueSize);
+    }
+
+    /**
+     * 커밋 후 썸네일 생성 예약 (트랜잭션 안에서 호출, 롤백되면 아무것도 안 함).
+     */
+    public void scheduleAfterCommit(List<Integer> imageIds) {
+        if (imageIds.isEmpty()) return;
+        homeFeedCache.afterCommit(() -> imageIds.forEach(this::trySubmit));
+    }
+
+    private void trySubmit(Integer imageId) {
+        if (!slots.tryAcquire()) {
+            log.warn("썸네일 대기열이 가득 참, 원본 사용: imageId={}", imageId);
+            return;
+        }
+        submit(imageId);
+    }
+
+    private void submit(Integer imageId) {
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(imageId);
+                } finally {
+                    slots.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            slots.release();
+            throw e;
+        }
+    }
+
+    // ✅ 기동 시 썸네일/크기 정보가 없는 기존 이미지 채우기 (별도 스레드, 풀이 가득 차면 기다림)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        Thread.ofVirtual().name("thumbnail-backfill").start(() -> {
+            int afterId = 0;
+            int queued = 0;
+            try {
+                while (true) {
+                    List<Integer> ids = postImageRepository.findIdsWithoutThumbnails(afterId, PageRequest.of(0, BACKFILL_BATCH));
+                    for (Integer id : ids) {
+                        slots.acquire();
+                        submit(id);
+                    }
+                    queued += ids.size();
+                    if (ids.size() < BACKFILL_BATCH) break;
+                    afterId = ids.get(ids.size() - 1);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.warn("썸네일 백필 중단", e);
+            }
+            if (queued > 0) log.info("썸네일 백필 예약: {}건", queued);
+        });
+    }
+
+    private record Thumbnails(String cardUrl, String viewUrl) {}
+
+    private record Processed(Thumbnails thumbnails, ImageMetadata metadata) {}
+
+    void generate(Integer imageId) {
+        PostImageEntity image = postImageRepository.findById(imageId).orElse(null);
+        if (image == null) return;
+        boolean needThumbnails = image.getCardUrl() == null;
+        boolean needMetadata = image.getWidth() == null && !Boolean.TRUE.equals(image.getMetadataFailed());
+        if (!needThumbnails && !needMetadata) return;
+
+        String originalUrl = image.getImageUrl();
+
+        // 같은 내용(같은 URL)의 썸네일이 이미 있으면 디코딩 없이 그대로
+        Thumbnails thumbnails = !needThumbnails ? null
+                : postImageRepository.findFirstByImageUrlAndCardUrlIsNotNull(originalUrl)
+                        .map(done -> new Thumbnails(done.getCardUrl(), done.getViewUrl()))
+                        .orElse(null);
+        boolean resize = needThumbnails && thumbnails == null;
+
+        // 업로드 때 못 읽었거나 도입 전 이미지의 크기/대표색/blurhash
+        ImageMetadata meta = null;
+        if (resize || needMetadata) {
+            try {
+                if (!fileStorageService.exists(originalUrl)) {
+                    // 원본이 없으면 다시 해도 같으므로 원본 URL/크기 실패로 기록 (아래 트랜잭션)
+                    log.warn("썸네일 원본 없음: imageId={}, url={}", imageId, originalUrl);
+                    if (resize) thumbnails = new Thumbnails(originalUrl, originalUrl);
+                } else {
+                    // 원격 저장소면 원본을 한 번만 받아서 썸네일과 크기 정보를 같이 만듦
+                    Processed processed = fileStorageService.read(originalUrl, original -> new Processed(
+                            resize ? resize(original, originalUrl) : null,
+                            needMetadata ? ImageMetadata.readQuietly(original) : null));
+                    if (resize) thumbnails = processed.thumbnails();
+                    meta = processed.metadata();
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("썸네일 생성 실패, 원본 사용: imageId={}, url={}", imageId, originalUrl, e);
+                return;
+            }
+        }
+
+        Thumbnails ready = thumbnails;
+        ImageMetadata described = meta;
+        tx.executeWithoutResult(status -> {
+            PostImageEntity current = postImageRepository.findById(imageId).orElse(null);
+            // 만드는 사이 글 수정으로 이미지가 교체/삭제됐으면 버림
+            // (썸네일 파일은 같은 내용을 쓰는 다른 글과 공유될 수 있으므로 여기서 지우지 않음)
+            if (current == null || !originalUrl.equals(current.getImageUrl())) return;
+
+            if (ready != null) current.thumbnailsReady(ready.cardUrl(), ready.viewUrl());
+            if (described != null && described.width() != null) {
+                current.describe(described.width(), described.height(), described.dominantColor(), described.blurHash());
+            } else if (needMetadata) {
+                // 못 읽는 형식/손상 파일: 다음 기동 백필에서 또 디코딩하지 않게 표시 (카드는 크기 없이 그림)
+                current.markMetadataFailed();
+            }
+            postImageRepository.flush();
+
+            Integer postId = current.getPost().getPostId();
+            postCardService.imagesChanged(postId);
+            homeFeedCache.afterCommit(() -> homeFeedCache.evictPost(postId));
+        });
+    }
+
+    private Thumbnails resize(Path original, String originalUrl) throws IOException {
+        // 상세용(1080)을 만들 만큼만 솎아 읽음, 카드용은 그 결과에서
+        BufferedImage src = ImageResizer.read(original, VIEW_WIDTH);
+        if (src == null) {
+            // ImageIO가 못 읽는 형식(webp 등)이나 픽셀 수 상한 초과는 원본 그대로 (다시 시도하지 않도록 원본 URL 기록)
+            return new Thumbnails(originalUrl, originalUrl);
+        }
+        // 카드용은 이미 줄인 상세용에서 다시 줄임 (원본에서 두 번 줄이는 것보다 빠름)
+        BufferedImage view = ImageResizer.shrinkToWidth(src, VIEW_WIDTH);
+        String viewUrl = view == null ? originalUrl : write(view, originalUrl, VIEW_WIDTH);
+        BufferedImage card = ImageResizer.shrinkToWidth(view != null ? view : src, CARD_WIDTH);
+        String cardUrl = card == null ? originalUrl : write(card, originalUrl, CARD_WIDTH);
+        return new Thumbnails(cardUrl, viewUrl);
+    }
+
+    // 줄인 이미지를 원본 옆에 JPEG 로 저장 (/uploads/abc_w400.jpg)
+    // 같은 내용의 썸네일이 이미 있으면 그대로, 없으면 임시 파일에 쓴 뒤 공개 → 요청이 반쯤 쓰인 파일을 받을 일 없음
+    private String write(BufferedImage scaled, String originalUrl, int width) throws IOException {
+        String url = fileStorageService.variantUrl(originalUrl, "w" + width);
+        fileStorageService.writeIfAbsent(url, "image/jpeg", out -> ImageResizer.writeJpeg(scaled, JPEG_QUALITY, out));
+        return url;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
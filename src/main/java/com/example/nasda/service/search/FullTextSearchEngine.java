@@ -0,0 +1,123 @@
+package com.example.nasda.service.search;
+
+import com.example.nasda.dto.search.SearchDocument;
+import com.example.nasda.repository.PostRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * MariaDB FULLTEXT 검색 (app.search.engine=fulltext).
+ * - posts.search_title / search_body 에 SearchAnalyzer 토큰(+접미사)을 저장해 두고 MATCH ... AGAINST 로 찾습니다.
+ *   MariaDB에는 ngram 파서가 없어서 한글 2-gram을 직접 만들어 넣는 방식입니다.
+ * - 색인은 DB가 들고 있으므로 글 변경을 따로 반영할 필요가 없고, 여러 서버가 같은 결과를 봅니다.
+ * - 기동 시 인덱스 생성(db/search/*.sql) + 토큰이 비어 있는 기존 글 채우기가 끝나면 ready.
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "fulltext")
+public class FullTextSearchEngine implements PostSearchEngine {
+
+    private static final int BACKFILL_BATCH = 500;
+
+    private final PostRepository postRepository;
+    private final DataSource dataSource;
+    private final TransactionTemplate tx;
+    private final double recencyWeight;
+    private final double recencyHalfLifeDays;
+
+    private volatile boolean ready;
+
+    public FullTextSearchEngine(PostRepository postRepository,
+                                DataSource dataSource,
+                                TransactionTemplate tx,
+                                @Value("${app.search.recency-weight:0.3}") double recencyWeight,
+                                @Value("${app.search.recency-half-life-days:30}") double recencyHalfLifeDays) {
+        this.postRepository = postRepository;
+        this.dataSource = dataSource;
+        this.tx = tx;
+        this.recencyWeight = recencyWeight;
+        this.recencyHalfLifeDays = recencyHalfLifeDays;
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public SearchHits search(String keyword, SearchType type, int page, int size) {
+        if (page < 0 || size <= 0) return SearchHits.EMPTY;
+
+        int offset = page * size;
+        if (offset >= MAX_RESULT_WINDOW) return new SearchHits(List.of(), count(keyword, type));
+        int limit = Math.min(size, MAX_RESULT_WINDOW - offset);
+
+        return switch (type) {
+            case TITLE, CONTENT -> {
+                String q = SearchAnalyzer.fullTextQuery(keyword);
+                if (q.isEmpty()) yield SearchHits.EMPTY;
+                List<Integer> ids = type == SearchType.TITLE
+                        ? postRepository.fullTextSearchTitle(q, recencyWeight, recencyHalfLifeDays, limit, offset)
+                        : postRepository.fullTextSearchContent(q, recencyWeight, recencyHalfLifeDays, limit, offset);
+                yield new SearchHits(ids, count(keyword, type));
+            }
+            case AUTHOR -> new SearchHits(
+                    postRepository.searchIdsByNickname(SearchAnalyzer.escapeLike(keyword), limit, offset),
+                    count(keyword, type));
+            case CATEGORY -> new SearchHits(
+                    postRepository.searchIdsByCategoryName(SearchAnalyzer.escapeLike(keyword), limit, offset),
+                    count(keyword, type));
+        };
+    }
+
+    // 전체 개수도 결과 창까지만 (창 밖 페이지로 hasNext 가 이어지지 않게)
+    private long count(String keyword, SearchType type) {
+        long count = switch (type) {
+            case TITLE -> postRepository.countFullTextTitle(SearchAnalyzer.fullTextQuery(keyword));
+            case CONTENT -> postRepository.countFullTextContent(SearchAnalyzer.fullTextQuery(keyword));
+            case AUTHOR -> postRepository.countByNicknameLike(SearchAnalyzer.escapeLike(keyword));
+            case CATEGORY -> postRepository.countByCategoryNameLike(SearchAnalyzer.escapeLike(keyword));
+        };
+        return Math.min(count, MAX_RESULT_WINDOW);
+    }
+
+    // ✅ 기동 시 FULLTEXT 인덱스 생성 + 기존 글 토큰 채우기 (끝나기 전까지는 LIKE 검색)
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepare() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                new ClassPathResource("db/search/V1__posts_fulltext.sql"));
+        populator.execute(dataSource);
+
+        int filled = backfill();
+
+        ready = true;
+        log.info("FULLTEXT 검색 준비 완료: 토큰 채운 글 {}건", filled);
+    }
+
+    // 토큰이 비어 있는 글을 postId 순 배치로 채움, 채운 건수
+    int backfill() {
+        int filled = 0;
+        int afterId = 0;
+        while (true) {
+            List<SearchDocument> docs = postRepository.findDocumentsWithoutSearchTokens(afterId, PageRequest.of(0, BACKFILL_BATCH));
+            if (docs.isEmpty()) break;
+            // 배치마다 짧은 트랜잭션, 엔티티를 올리지 않고 토큰 컬럼만 update (updated_at 유지)
+            tx.executeWithoutResult(status -> docs.forEach(doc -> postRepository.updateSearchTokens(doc.postId(),
+                    SearchAnalyzer.fullTextTokens(doc.title()), SearchAnalyzer.fullTextTokens(doc.description()))));
+            filled += docs.size();
+            afterId = docs.get(docs.size() - 1).postId();
+        }
+        return filled;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.nasda.service.search;
+
+import com.example.nasda.dto.search.SearchDocument;
+
+/**
+ * 게시글 검색 엔진 (app.search.engine 으로 선택).
+ * - memory   : PostSearchIndex (프로세스 내 역색인, 기본값)
+ * - fulltext : FullTextSearchEngine (MariaDB FULLTEXT)
+ * 두 엔진 모두 같은 모양(점수 순 id 한 페이지 + 전체 개수)을 돌려줘서 같은 데이터로 비교할 수 있습니다.
+ */
+public interface PostSearchEngine {
+
+    // 이보다 뒤 페이지는 잘라냄 (깊은 페이지일수록 힙/OFFSET 비용이 커지므로)
+    int MAX_RESULT_WINDOW = 1000;
+
+    // false 면 호출하는 쪽이 기존 LIKE 검색으로 대신함
+    boolean isReady();
+
+    SearchHits search(String keyword, SearchType type, int page, int size);
+
+    // 색인을 따로 들고 있는 엔진만 구현 (FULLTEXT는 posts 저장 시 같이 갱신됨)
+    default void upsert(SearchDocument doc) {
+    }
+
+    default void remove(Integer postId) {
+    }
+
+    default void nicknameChanged(Integer userId, String nickname) {
+    }
+
+    default void authorRemoved(Integer userId) {
+    }
+}
@@ -0,0 +1,333 @@
+package com.example.nasda.service.search;
+
+import com.example.nasda.dto.search.SearchDocument;
+import com.example.nasda.repository.PostRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 검색용 프로세스 내 역색인 (제목 / 본문 / 작성자 닉네임 / 카테고리명).
+ * - 토큰은 SearchAnalyzer (한글 2-gram, 라틴 단어)
+ * - 기동 시 posts 전체로 한 번 만들고, 이후에는 글 생성/수정/삭제·닉네임 변경을 커밋 후에 반영합니다.
+ * - 만들어지기 전(ready=false)에는 호출하는 쪽이 기존 LIKE 검색으로 대신합니다.
+ * - app.search.engine=memory (기본값)
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "memory", matchIfMissing = true)
+public class PostSearchIndex implements PostSearchEngine {
+
+    private static final int LOAD_BATCH = 1000;
+
+    // BM25 기본값
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final PostRepository postRepository;
+    private final double recencyWeight;
+    private final double recencyHalfLifeDays;
+
+    // synchronized 대신 ReentrantReadWriteLock: 검색은 동시에, 갱신만 단독으로 (가상 스레드 pinning 방지)
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment = new Segment();
+
+    // 재색인 중에 들어온 갱신 (새 segment에 다시 적용)
+    private List<Consumer<Segment>> pending;
+    private volatile boolean ready;
+
+    public PostSearchIndex(PostRepository postRepository,
+                           @Value("${app.search.recency-weight:0.3}") double recencyWeight,
+                           @Value("${app.search.recency-half-life-days:30}") double recencyHalfLifeDays) {
+        this.postRepository = postRepository;
+        this.recencyWeight = recencyWeight;
+        this.recencyHalfLifeDays = recencyHalfLifeDays;
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    // =========================
+    // 검색
+    // =========================
+
+    /**
+     * 검색어의 모든 토큰을 포함한 글을 BM25 × 최신 가중치 순으로 page/size 만큼.
+     * 전체 정렬 대신 (page+1)*size 크기의 힙으로 상위 k개만 유지합니다.
+     */
+    @Override
+    public SearchHits search(String keyword, SearchType type, int page, int size) {
+        List<String> terms = SearchAnalyzer.analyzeQuery(keyword);
+        if (terms.isEmpty() || page < 0 || size <= 0) return SearchHits.EMPTY;
+
+        int from = page * size;
+        int k = (int) Math.min((long) from + size, MAX_RESULT_WINDOW);
+        Map<SearchType, Double> fields = type.scoredFields();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 머리 = 지금까지 상위 k개 중 가장 낮은 것
+        PriorityQueue<Hit> heap = new PriorityQueue<>(k + 1, Hit.ORDER.reversed());
+        long total = 0;
+
+        lock.readLock().lock();
+        try {
+            int docCount = segment.docs.size();
+
+            List<QueryTerm> query = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                EnumMap<SearchType, Map<Integer, Integer>> byField = new EnumMap<>(SearchType.class);
+                for (SearchType field : fields.keySet()) {
+                    Map<Integer, Integer> postings = segment.postings.get(field).get(term);
+                    if (postings != null) byField.put(field, postings);
+                }
+                // 모든 토큰이 있어야 하므로 하나라도 없으면 결과 없음
+                if (byField.isEmpty()) return SearchHits.EMPTY;
+                query.add(new QueryTerm(byField));
+            }
+            // 가장 드문 토큰의 글들만 후보로
+            query.sort(Comparator.comparingInt(QueryTerm::postingCount));
+            Set<Integer> candidates = new HashSet<>();
+            query.get(0).byField().values().forEach(postings -> candidates.addAll(postings.keySet()));
+
+            candidates:
+            for (Integer postId : candidates) {
+                double score = 0;
+                for (QueryTerm term : query) {
+                    double termScore = 0;
+                    for (Map.Entry<SearchType, Map<Integer, Integer>> e : term.byField().entrySet()) {
+                        Integer tf = e.getValue().get(postId);
+                        if (tf == null) continue;
+                        SearchType field = e.getKey();
+                        termScore += fields.get(field) * bm25(tf,
+                                segment.length(field, postId), segment.averageLength(field),
+                                e.getValue().size(), docCount);
+                    }
+                    if (termScore == 0) continue candidates;
+                    score += termScore;
+                }
+
+                total++;
+                SearchDocument doc = segment.docs.get(postId);
+                heap.add(new Hit(postId, score * recencyBoost(doc.createdAt(), now), doc));
+                if (heap.size() > k) heap.poll();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 창 밖 결과는 페이지로 꺼낼 수 없으므로 전체 개수(→ Page.hasNext)도 창까지만
+        total = Math.min(total, MAX_RESULT_WINDOW);
+        if (from >= heap.size()) return new SearchHits(List.of(), total);
+
+        List<Hit> top = new ArrayList<>(heap);
+        top.sort(Hit.ORDER);
+        List<Integer> ids = top.subList(from, top.size()).stream()
+                .map(Hit::postId)
+                .toList();
+        return new SearchHits(ids, total);
+    }
+
+    private static double bm25(int tf, int length, double averageLength, int df, int docCount) {
+        double idf = Math.log(1.0 + (docCount - df + 0.5) / (df + 0.5));
+        double norm = K1 * (1 - B + B * (averageLength == 0 ? 1 : length / averageLength));
+        return idf * (tf * (K1 + 1)) / (tf + norm);
+    }
+
+    // 1 + w × 0.5^(경과일 / 반감기) : 새 글일수록 최대 (1+w)배
+    private double recencyBoost(LocalDateTime createdAt, LocalDateTime now) {
+        if (createdAt == null || recencyWeight <= 0) return 1.0;
+        double ageDays = Math.max(0, Duration.between(createdAt, now).toMinutes() / 1440.0);
+        return 1.0 + recencyWeight * Math.pow(0.5, ageDays / recencyHalfLifeDays);
+    }
+
+    // =========================
+    // 갱신 (트랜잭션 안에서 호출되면 커밋 후 반영)
+    // =========================
+
+    @Override
+    public void upsert(SearchDocument doc) {
+        afterCommit(() -> apply(s -> s.add(doc)));
+    }
+
+    @Override
+    public void remove(Integer postId) {
+        afterCommit(() -> apply(s -> s.remove(postId)));
+    }
+
+    @Override
+    public void nicknameChanged(Integer userId, String nickname) {
+        afterCommit(() -> apply(s -> s.renameAuthor(userId, nickname)));
+    }
+
+    @Override
+    public void authorRemoved(Integer userId) {
+        nicknameChanged(userId, null);
+    }
+
+    // ✅ 기동 시 전체 색인 (요청 처리와 동시에 진행, 끝나면 교체)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Consumer<Segment>> queued = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            pending = queued;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment fresh = new Segment();
+        int afterId = 0;
+        while (true) {
+            List<SearchDocument> batch = postRepository.findSearchDocumentsAfter(afterId, PageRequest.of(0, LOAD_BATCH));
+            batch.forEach(fresh::add);
+            if (batch.size() < LOAD_BATCH) break;
+            afterId = batch.get(batch.size() - 1).postId();
+        }
+
+        lock.writeLock().lock();
+        try {
+            queued.forEach(op -> op.accept(fresh));
+            segment = fresh;
+            pending = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("검색 인덱스 생성: 글 {}건", fresh.docs.size());
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<Segment> op) {
+        lock.writeLock().lock();
+        try {
+            op.accept(segment);
+            if (pending != null) pending.add(op);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    // =========================
+    // 내부 구조
+    // =========================
+
+    private record Hit(Integer postId, double score, SearchDocument doc) {
+        static final Comparator<Hit> ORDER = Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparing(h -> h.doc().createdAt(), Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(Hit::postId, Comparator.reverseOrder());
+    }
+
+    // 검색어 토큰 하나의 필드별 목록
+    private record QueryTerm(EnumMap<SearchType, Map<Integer, Integer>> byField) {
+        int postingCount() {
+            return byField.values().stream().mapToInt(Map::size).sum();
+        }
+    }
+
+    // 문서 + 필드별 (토큰 → 글 id → 등장 횟수) + 필드 길이(토큰 수)
+    private static final class Segment {
+        final Map<Integer, SearchDocument> docs = new HashMap<>();
+        final EnumMap<SearchType, Map<String, Map<Integer, Integer>>> postings = new EnumMap<>(SearchType.class);
+        final EnumMap<SearchType, Map<Integer, Integer>> lengths = new EnumMap<>(SearchType.class);
+        final long[] totalLength = new long[SearchType.values().length];
+
+        Segment() {
+            for (SearchType type : SearchType.values()) {
+                postings.put(type, new HashMap<>());
+                lengths.put(type, new HashMap<>());
+            }
+        }
+
+        int length(SearchType field, Integer postId) {
+            return lengths.get(field).getOrDefault(postId, 0);
+        }
+
+        double averageLength(SearchType field) {
+            return docs.isEmpty() ? 0 : (double) totalLength[field.ordinal()] / docs.size();
+        }
+
+        void add(SearchDocument doc) {
+            remove(doc.postId());
+            docs.put(doc.postId(), doc);
+            for (SearchType type : SearchType.values()) {
+                Map<String, Map<Integer, Integer>> field = postings.get(type);
+                List<String> tokens = SearchAnalyzer.analyze(type.textOf(doc));
+                for (String term : tokens) {
+                    field.computeIfAbsent(term, k -> new HashMap<>()).merge(doc.postId(), 1, Integer::sum);
+                }
+                lengths.get(type).put(doc.postId(), tokens.size());
+                totalLength[type.ordinal()] += tokens.size();
+            }
+        }
+
+        void remove(Integer postId) {
+            SearchDocument old = docs.remove(postId);
+            if (old == null) return;
+            for (SearchType type : SearchType.values()) {
+                Integer length = lengths.get(type).remove(postId);
+                if (length != null) totalLength[type.ordinal()] -= length;
+
+                Map<String, Map<Integer, Integer>> field = postings.get(type);
+                Set<String> terms = new LinkedHashSet<>(SearchAnalyzer.analyze(type.textOf(old)));
+                for (String term : terms) {
+                    Map<Integer, Integer> list = field.get(term);
+                    if (list == null) continue;
+                    list.remove(postId);
+                    if (list.isEmpty()) field.remove(term);
+                }
+            }
+        }
+
+        void renameAuthor(Integer userId, String nickname) {
+            if (userId == null) return;
+            List<SearchDocument> owned = docs.values().stream()
+                    .filter(d -> userId.equals(d.userId()))
+                    .toList();
+            owned.forEach(d -> add(d.withNickname(nickname)));
+        }
+    }
+}
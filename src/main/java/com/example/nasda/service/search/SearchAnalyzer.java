@@ -0,0 +1,115 @@
+package com.example.nasda.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토큰 분석기 (색인/검색어 공통).
+ * - NFKC 정규화(전각 ＡＢＣ１２３ → ABC123) 후 소문자
+ *   단, 낱자 자모(호환 자모 ㅎ, 반각 한글 자모)는 NFKC 에서 첫가끝 자모(U+1100~)로 바뀌어 완성형과 맞지 않음
+ *   → 자모 단위로 비교하는 SearchSuggester.key 가 호환 자모로 되돌림
+ * - 한글(및 한자/가나)은 띄어쓰기를 믿을 수 없으므로 글자 2-gram, 라틴/숫자는 단어 단위
+ * - 색인 쪽은 1글자 검색어도 찾을 수 있게 1-gram도 같이 넣고, 검색어 쪽은 2글자 이상이면 2-gram만 씀
+ *   ("제주여행" 검색 → 제주, 주여, 여행 이 모두 있는 글 = LIKE 와 거의 같은 재현율)
+ */
+public final class SearchAnalyzer {
+
+    // MariaDB에는 ngram 파서가 없고 innodb_ft_min_token_size(기본 3)보다 짧은 토큰은 버려지므로
+    // FULLTEXT 컬럼에는 분석기 토큰 뒤에 이 접미사를 붙여 저장/검색합니다 (여행 → 여행qq, a → aqq)
+    static final String FULLTEXT_SUFFIX = "qq";
+
+    private SearchAnalyzer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    // 색인용: 중복 포함 (등장 횟수 = tf)
+    public static List<String> analyze(String text) {
+        return tokens(text, true);
+    }
+
+    // 검색어용: 중복 제거, 순서 유지
+    public static List<String> analyzeQuery(String text) {
+        return List.copyOf(new LinkedHashSet<>(tokens(text, false)));
+    }
+
+    // FULLTEXT 컬럼 값 (공백으로 이은 토큰)
+    public static String fullTextTokens(String text) {
+        StringBuilder sb = new StringBuilder();
+        for (String token : analyze(text)) {
+            if (!sb.isEmpty()) sb.append(' ');
+            sb.append(token).append(FULLTEXT_SUFFIX);
+        }
+        return sb.toString();
+    }
+
+    // LIKE 검색어: 와일드카드(%, _)와 escape 문자(!)를 글자 그대로 (쿼리는 escape '!')
+    public static String escapeLike(String keyword) {
+        return keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    // MATCH ... AGAINST (... IN BOOLEAN MODE) 검색어: 모든 토큰 필수 (+)
+    // 토큰은 글자/숫자뿐이라 연산자가 섞여 들어갈 일은 없음
+    public static String fullTextQuery(String keyword) {
+        StringBuilder sb = new StringBuilder();
+        for (String token : analyzeQuery(keyword)) {
+            if (!sb.isEmpty()) sb.append(' ');
+            sb.append('+').append(token).append(FULLTEXT_SUFFIX);
+        }
+        return sb.toString();
+    }
+
+    private static List<String> tokens(String text, boolean indexing) {
+        String s = normalize(text);
+        List<String> out = new ArrayList<>();
+
+        int i = 0;
+        while (i < s.length()) {
+            int cp = s.codePointAt(i);
+            if (isCjk(cp)) {
+                int start = i;
+                while (i < s.length() && isCjk(s.codePointAt(i))) {
+                    i += Character.charCount(s.codePointAt(i));
+                }
+                grams(s.substring(start, i), indexing, out);
+            } else if (Character.isLetterOrDigit(cp)) {
+                int start = i;
+                while (i < s.length()) {
+                    int c = s.codePointAt(i);
+                    if (!Character.isLetterOrDigit(c) || isCjk(c)) break;
+                    i += Character.charCount(c);
+                }
+                out.add(s.substring(start, i));
+            } else {
+                i += Character.charCount(cp);
+            }
+        }
+        return out;
+    }
+
+    private static void grams(String run, boolean indexing, List<String> out) {
+        int[] cps = run.codePoints().toArray();
+        if (cps.length == 1) {
+            out.add(run);
+            return;
+        }
+        for (int k = 0; k < cps.length; k++) {
+            if (indexing) out.add(new String(cps, k, 1));
+            if (k + 1 < cps.length) out.add(new String(cps, k, 2));
+        }
+    }
+
+    private static boolean isCjk(int cp) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(cp);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
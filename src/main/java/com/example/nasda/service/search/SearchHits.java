@@ -0,0 +1,9 @@
+package com.example.nasda.service.search;
+
+import java.util.List;
+
+// 검색 결과 한 페이지: 점수 순 글 id + 전체 매치 수 (최대 PostSearchEngine.MAX_RESULT_WINDOW)
+public record SearchHits(List<Integer> postIds, long total) {
+
+    public static final SearchHits EMPTY = new SearchHits(List.of(), 0);
+}
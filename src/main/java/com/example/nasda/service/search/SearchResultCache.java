@@ -0,0 +1,262 @@
+package com.example.nasda.service.search;
+
+import com.example.nasda.dto.search.SearchDocument;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 검색 결과(점수 순 글 id 한 페이지 + 전체 개수) 캐시 (프로세스 내 LRU + TTL).
+ * - 키: (검색 종류, 정규화한 검색어, page, size) → "ＳＰＲＩＮＧ  여행" 과 "spring 여행" 은 같은 항목
+ * - 카드(제목/썸네일/댓글 수)는 매번 post_cards에서 id로 다시 읽으므로 여기에는 id만 둡니다.
+ * - 글 생성/수정/삭제 시 그 글이 들어 있거나 그 글과 맞을 수 있는 검색어의 모든 페이지를 지웁니다.
+ *   (수정으로 더 이상 맞지 않게 된 글이 캐시된 페이지 밖에 있던 경우의 전체 개수 차이는 TTL 안에서만 남음)
+ * - 지표: search.cache.requests{result=hit|miss}, search.cache.evictions{cause=size|expired|write},
+ *         search.cache.size, search.cache.hit.ratio
+ */
+@Component
+public class SearchResultCache {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    // access-order LinkedHashMap = LRU
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    // synchronized 대신 ReentrantLock: 가상 스레드 모드에서 캐리어 스레드 고정(pinning) 방지
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 무효화가 일어날 때마다 증가 → 검색 도중 무효화됐으면 그 결과는 캐시에 넣지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder sizeEvictions = new LongAdder();
+    private final LongAdder expiredEvictions = new LongAdder();
+    private final LongAdder writeEvictions = new LongAdder();
+
+    @Autowired
+    public SearchResultCache(@Value("${app.search-cache.max-entries:512}") int maxEntries,
+                             @Value("${app.search-cache.ttl:60s}") Duration ttl,
+                             MeterRegistry meterRegistry) {
+        this(maxEntries, ttl, meterRegistry, System::nanoTime);
+    }
+
+    SearchResultCache(int maxEntries, Duration ttl, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+
+        FunctionCounter.builder("search.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("search.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("search.cache.evictions", sizeEvictions, LongAdder::sum)
+                .tag("cause", "size").register(meterRegistry);
+        FunctionCounter.builder("search.cache.evictions", expiredEvictions, LongAdder::sum)
+                .tag("cause", "expired").register(meterRegistry);
+        FunctionCounter.builder("search.cache.evictions", writeEvictions, LongAdder::sum)
+                .tag("cause", "write").register(meterRegistry);
+        Gauge.builder("search.cache.size", this, SearchResultCache::size)
+                .register(meterRegistry);
+        Gauge.builder("search.cache.hit.ratio", this, SearchResultCache::hitRatio)
+                .register(meterRegistry);
+    }
+
+    // 공백 정리 + 분석기와 같은 정규화 (NFKC, 소문자)
+    public static String normalize(String keyword) {
+        return SearchAnalyzer.normalize(keyword).trim().replaceAll("\\s+", " ");
+    }
+
+    public boolean isEnabled() {
+        return maxEntries > 0 && ttlNanos > 0;
+    }
+
+    /**
+     * 캐시에 있고 TTL 안이면 그대로, 아니면 loader(검색 엔진)로 찾아서 저장.
+     */
+    public SearchHits getOrLoad(SearchType type, String keyword, int page, int size, Supplier<SearchHits> loader) {
+        if (!isEnabled()) return loader.get();
+
+        Key key = new Key(type, normalize(keyword), page, size);
+
+        lock.lock();
+        try {
+            Entry cached = entries.get(key);
+            if (cached != null) {
+                if (clock.getAsLong() - cached.loadedAt() < ttlNanos) {
+                    hits.increment();
+                    return cached.hits();
+                }
+                entries.remove(key);
+                expiredEvictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        long startGeneration = generation.get();
+        SearchHits loaded = loader.get();
+
+        Entry entry = new Entry(loaded, Set.copyOf(loaded.postIds()),
+                SearchAnalyzer.analyzeQuery(key.keyword()), clock.getAsLong());
+
+        lock.lock();
+        try {
+            if (generation.get() == startGeneration) {
+                entries.put(key, entry);
+                trimToSize();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return loaded;
+    }
+
+    // =========================
+    // 무효화 (트랜잭션 안에서 호출되면 커밋 후 — 검색 인덱스 반영보다 뒤에 등록해야 함)
+    // =========================
+
+    // ✅ 새 글/수정: 이 글이 들어 있는 검색어 + 이 글과 맞을 수 있는 검색어 (모든 페이지)
+    public void postChanged(SearchDocument doc) {
+        afterCommit(() -> {
+            // 글 분석은 잠금 밖에서 한 번만 (항목마다 다시 분석하지 않음)
+            AnalyzedDoc analyzed = AnalyzedDoc.of(doc);
+            evictQueries(e -> e.getValue().postIds().contains(doc.postId())
+                    || matches(e.getKey(), e.getValue(), analyzed));
+        });
+    }
+
+    // ✅ 삭제: 이 글이 들어 있는 검색어 (모든 페이지)
+    public void postRemoved(Integer postId) {
+        afterCommit(() -> evictQueries(e -> e.getValue().postIds().contains(postId)));
+    }
+
+    // ✅ 닉네임 변경/탈퇴: 작성자 검색 전체 (드문 일이라 통째로)
+    public void authorChanged() {
+        afterCommit(() -> evictQueries(e -> e.getKey().type() == SearchType.AUTHOR));
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double hitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    // 검색 엔진과 같은 기준: 검색어 토큰이 모두 들어 있으면 맞음
+    // (FULLTEXT 엔진의 작성자/카테고리 LIKE 검색도 놓치지 않게 부분 문자열도 같이 봄)
+    private static boolean matches(Key key, Entry entry, AnalyzedDoc doc) {
+        for (SearchType field : key.type().scoredFields().keySet()) {
+            if (doc.normalized().get(field).contains(key.keyword())) return true;
+            if (!entry.terms().isEmpty() && doc.tokens().get(field).containsAll(entry.terms())) return true;
+        }
+        // 본문 검색은 토큰이 제목/본문에 나뉘어 있어도 맞음
+        return key.type() == SearchType.CONTENT && !entry.terms().isEmpty()
+                && doc.titleAndBody().containsAll(entry.terms());
+    }
+
+    // 필드별 정규화 문자열 + 토큰 집합 (무효화 한 번에 한 번 계산)
+    private record AnalyzedDoc(Map<SearchType, String> normalized,
+                               Map<SearchType, Set<String>> tokens,
+                               Set<String> titleAndBody) {
+        static AnalyzedDoc of(SearchDocument doc) {
+            Map<SearchType, String> normalized = new EnumMap<>(SearchType.class);
+            Map<SearchType, Set<String>> tokens = new EnumMap<>(SearchType.class);
+            for (SearchType field : SearchType.values()) {
+                String text = field.textOf(doc);
+                normalized.put(field, SearchAnalyzer.normalize(text));
+                tokens.put(field, new HashSet<>(SearchAnalyzer.analyze(text)));
+            }
+            Set<String> titleAndBody = new HashSet<>(tokens.get(SearchType.TITLE));
+            titleAndBody.addAll(tokens.get(SearchType.CONTENT));
+            return new AnalyzedDoc(normalized, tokens, titleAndBody);
+        }
+    }
+
+    // 조건에 맞는 항목의 (종류, 검색어) 를 모아 그 검색어의 모든 페이지를 제거 (전체 개수/페이지 경계가 같이 바뀌므로)
+    private void evictQueries(Predicate<Map.Entry<Key, Entry>> condition) {
+        generation.incrementAndGet();
+
+        lock.lock();
+        try {
+            Set<Query> affected = new HashSet<>();
+            for (Map.Entry<Key, Entry> e : entries.entrySet()) {
+                if (condition.test(e)) affected.add(e.getKey().query());
+            }
+            if (affected.isEmpty()) return;
+
+            Iterator<Key> it = entries.keySet().iterator();
+            while (it.hasNext()) {
+                if (affected.contains(it.next().query())) {
+                    it.remove();
+                    writeEvictions.increment();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock 보유 상태에서 호출
+    private void trimToSize() {
+        Iterator<Key> it = entries.keySet().iterator();
+        while (entries.size() > maxEntries && it.hasNext()) {
+            it.next();
+            it.remove();
+            sizeEvictions.increment();
+        }
+    }
+
+    private static void afterCommit(Runnable invalidation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        } else {
+            invalidation.run();
+        }
+    }
+
+    private record Query(SearchType type, String keyword) { }
+
+    private record Key(SearchType type, String keyword, int page, int size) {
+        Query query() {
+            return new Query(type, keyword);
+        }
+    }
+
+    private record Entry(SearchHits hits, Set<Integer> postIds, List<String> terms, long loadedAt) { }
+}
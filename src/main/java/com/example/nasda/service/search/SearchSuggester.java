@@ -0,0 +1,417 @@
+package com.example.nasda.service.search;
+
+import com.example.nasda.domain.CategoryEntity;
+import com.example.nasda.domain.PostCardEntity;
+import com.example.nasda.domain.UserEntity;
+import com.example.nasda.domain.UserRepository;
+import com.example.nasda.dto.search.SuggestionDto;
+import com.example.nasda.repository.CategoryRepository;
+import com.example.nasda.repository.PostCardRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 검색창 자동완성 (글 제목 / 작성자 닉네임 / 카테고리명).
+ * - 한글은 자모 단위 키로 넣어서 입력 중인 글자("여ㅎ")도 "여행"에 걸리게 합니다.
+ * - 트라이 노드마다 하위 최대 가중치를 들고 있어서, 가중치 높은 순 top-k를 최선 우선 탐색으로 바로 꺼냅니다.
+ * - 가중치: 제목 = 글 수 + 댓글 수, 닉네임 = 1 + 작성 글 수, 카테고리 = 1 + 글 수
+ * - 글/닉네임 변경은 PostSearchIndex(memory 엔진)와 마찬가지로 커밋 후에 조금씩 반영합니다.
+ */
+@Log4j2
+@Component
+public class SearchSuggester {
+
+    public static final int MAX_LIMIT = 10;
+
+    private static final int LOAD_BATCH = 1000;
+    // 제목 중간 단어로도 찾을 수 있게 단어 시작 위치 몇 개까지 키로 넣음
+    private static final int MAX_WORD_STARTS = 4;
+    private static final int MAX_KEY_LENGTH = 60;
+
+    private final PostCardRepository postCardRepository;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Dictionary dictionary = new Dictionary();
+
+    // 재구축 중에 들어온 갱신 (새 dictionary에 다시 적용)
+    private List<Consumer<Dictionary>> pending;
+
+    public SearchSuggester(PostCardRepository postCardRepository,
+                           UserRepository userRepository,
+                           CategoryRepository categoryRepository) {
+        this.postCardRepository = postCardRepository;
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+    }
+
+    // =========================
+    // 조회
+    // =========================
+
+    public List<SuggestionDto> suggest(String prefix, int limit) {
+        String key = key(prefix == null ? "" : prefix.trim());
+        int k = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        if (key.isEmpty()) return List.of();
+
+        List<SuggestionDto> out = new ArrayList<>(k);
+        lock.readLock().lock();
+        try {
+            Node node = dictionary.root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) return List.of();
+
+            // 큐에는 노드(하위 최대 가중치)와 항목(자기 가중치)이 섞여 들어감 → 꺼내는 순서 = 가중치 순
+            PriorityQueue<Candidate> queue = new PriorityQueue<>(Candidate.ORDER);
+            queue.add(new Candidate(node.best, node, null));
+            Set<Entry> seen = new HashSet<>();
+
+            while (!queue.isEmpty() && out.size() < k) {
+                Candidate c = queue.poll();
+                if (c.entry() != null) {
+                    if (seen.add(c.entry())) {
+                        out.add(new SuggestionDto(c.entry().text, c.entry().type.name().toLowerCase(Locale.ROOT)));
+                    }
+                    continue;
+                }
+                for (Entry e : c.node().entries) {
+                    queue.add(new Candidate(e.weight, null, e));
+                }
+                for (Node child : c.node().children.values()) {
+                    queue.add(new Candidate(child.best, child, null));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return out;
+    }
+
+    // =========================
+    // 갱신 (트랜잭션 안에서 호출되면 커밋 후 반영)
+    // =========================
+
+    public void postChanged(Integer postId, Integer userId, String title, String categoryName) {
+        afterCommit(() -> apply(d -> d.putPost(postId, userId, title, categoryName)));
+    }
+
+    public void postRemoved(Integer postId) {
+        afterCommit(() -> apply(d -> d.removePost(postId)));
+    }
+
+    public void commentCountChanged(Integer postId, int delta) {
+        afterCommit(() -> apply(d -> d.addCommentWeight(postId, delta)));
+    }
+
+    public void nicknameChanged(Integer userId, String nickname) {
+        afterCommit(() -> apply(d -> d.putUser(userId, nickname)));
+    }
+
+    public void userRemoved(Integer userId) {
+        afterCommit(() -> apply(d -> d.removeUser(userId)));
+    }
+
+    // ✅ 기동 시 전체 구축 (끝나면 교체)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Consumer<Dictionary>> queued = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            pending = queued;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Dictionary fresh = new Dictionary();
+        for (CategoryEntity category : categoryRepository.findAll()) {
+            fresh.adjust(SearchType.CATEGORY, category.getCategoryName(), 1);
+        }
+        for (UserEntity user : userRepository.findAll()) {
+            fresh.putUser(user.getUserId(), user.getNickname());
+        }
+        int afterId = 0;
+        while (true) {
+            List<PostCardEntity> batch = postCardRepository.findByPostIdGreaterThanOrderByPostIdAsc(
+                    afterId, PageRequest.of(0, LOAD_BATCH));
+            for (PostCardEntity card : batch) {
+                fresh.putPost(card.getPostId(), card.getUserId(), card.getTitle(), card.getCategoryName());
+                fresh.addCommentWeight(card.getPostId(), card.getCommentCount());
+            }
+            if (batch.size() < LOAD_BATCH) break;
+            afterId = batch.get(batch.size() - 1).getPostId();
+        }
+
+        lock.writeLock().lock();
+        try {
+            queued.forEach(op -> op.accept(fresh));
+            dictionary = fresh;
+            pending = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("자동완성 사전 생성: 항목 {}개", fresh.entries.size());
+    }
+
+    private void apply(Consumer<Dictionary> op) {
+        lock.writeLock().lock();
+        try {
+            op.accept(dictionary);
+            if (pending != null) pending.add(op);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    // =========================
+    // 키 (정규화 + 한글 자모 분해)
+    // =========================
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    // 겹모음/겹받침은 타자 순서대로 풀어서 ("고" 입력 중에도 "과"가 걸리게)
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ",
+            "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    static String key(String text) {
+        String s = SearchAnalyzer.normalize(text).trim().replaceAll("\\s+", " ");
+        StringBuilder sb = new StringBuilder(s.length() * 2);
+        for (int i = 0; i < s.length() && sb.length() < MAX_KEY_LENGTH; i++) {
+            char ch = s.charAt(i);
+            if (ch >= 0xAC00 && ch <= 0xD7A3) {
+                int idx = ch - 0xAC00;
+                sb.append(CHO.charAt(idx / 588))
+                        .append(JUNG[(idx % 588) / 28])
+                        .append(JONG[idx % 28]);
+            } else if (ch >= 0x1100 && ch <= 0x11FF) {
+                sb.append(compatibilityJamo(ch));
+            } else {
+                sb.append(ch);
+            }
+        }
+        return sb.length() > MAX_KEY_LENGTH ? sb.substring(0, MAX_KEY_LENGTH) : sb.toString();
+    }
+
+    // NFKC 는 따로 친 호환 자모(ㅎ U+314E)를 첫가끝 자모(U+1112)로 바꾸므로, 완성형을 푼 쪽(호환 자모)과 맞춰 되돌림
+    // (옛한글 등 표에 없는 자모는 그대로)
+    private static String compatibilityJamo(char ch) {
+        if (ch >= 0x1100 && ch < 0x1100 + CHO.length()) return String.valueOf(CHO.charAt(ch - 0x1100));
+        if (ch >= 0x1161 && ch < 0x1161 + JUNG.length) return JUNG[ch - 0x1161];
+        if (ch >= 0x11A8 && ch < 0x11A8 + JONG.length - 1) return JONG[ch - 0x11A8 + 1];
+        return String.valueOf(ch);
+    }
+
+    // 전체 문자열 + 단어 시작 위치들
+    static Set<String> keysOf(String text) {
+        String s = SearchAnalyzer.normalize(text).trim().replaceAll("\\s+", " ");
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(key(s));
+        int from = 0;
+        while (keys.size() <= MAX_WORD_STARTS) {
+            int space = s.indexOf(' ', from);
+            if (space < 0) break;
+            keys.add(key(s.substring(space + 1)));
+            from = space + 1;
+        }
+        keys.remove("");
+        return keys;
+    }
+
+    // =========================
+    // 내부 구조
+    // =========================
+
+    private record Candidate(long weight, Node node, Entry entry) {
+        // 가중치 높은 것 먼저, 같으면 항목을 노드보다 먼저
+        static final Comparator<Candidate> ORDER = Comparator.comparingLong(Candidate::weight).reversed()
+                .thenComparing(c -> c.entry() == null);
+    }
+
+    private static final class Node {
+        final Map<Character, Node> children = new HashMap<>(4);
+        final List<Entry> entries = new ArrayList<>(1);
+        long best;
+    }
+
+    private static final class Entry {
+        final SearchType type;
+        final String text;
+        final Set<String> keys;
+        long weight;
+
+        Entry(SearchType type, String text) {
+            this.type = type;
+            this.text = text;
+            this.keys = keysOf(text);
+        }
+    }
+
+    private record PostState(Integer userId, String title, String categoryName, long titleWeight) {}
+
+    private static final class Dictionary {
+        final Node root = new Node();
+        final Map<String, Entry> entries = new HashMap<>();
+        final Map<Integer, PostState> posts = new HashMap<>();
+        final Map<Integer, String> nicknames = new HashMap<>();
+
+        // 같은 글이 다시 들어오면(수정/재적용) 이전 기여분을 빼고 다시 더함
+        void putPost(Integer postId, Integer userId, String title, String categoryName) {
+            PostState old = posts.remove(postId);
+            long titleWeight = old != null ? old.titleWeight() : 1;
+            if (old != null) unlink(old);
+
+            PostState state = new PostState(userId, title, categoryName, titleWeight);
+            posts.put(postId, state);
+            link(state);
+        }
+
+        void removePost(Integer postId) {
+            PostState old = posts.remove(postId);
+            if (old != null) unlink(old);
+        }
+
+        void addCommentWeight(Integer postId, long delta) {
+            PostState old = posts.get(postId);
+            if (old == null || delta == 0) return;
+            long next = Math.max(1, old.titleWeight() + delta);
+            adjust(SearchType.TITLE, old.title(), next - old.titleWeight());
+            posts.put(postId, new PostState(old.userId(), old.title(), old.categoryName(), next));
+        }
+
+        void putUser(Integer userId, String nickname) {
+            if (userId == null) return;
+            String old = nicknames.put(userId, nickname);
+            long postCount = posts.values().stream().filter(p -> userId.equals(p.userId())).count();
+            if (old != null) adjust(SearchType.AUTHOR, old, -(1 + postCount));
+            adjust(SearchType.AUTHOR, nickname, 1 + postCount);
+        }
+
+        void removeUser(Integer userId) {
+            String old = nicknames.remove(userId);
+            if (old != null) remove(SearchType.AUTHOR, old);
+            posts.replaceAll((id, p) -> userId.equals(p.userId())
+                    ? new PostState(null, p.title(), p.categoryName(), p.titleWeight())
+                    : p);
+        }
+
+        private void link(PostState p) {
+            adjust(SearchType.TITLE, p.title(), p.titleWeight());
+            adjust(SearchType.CATEGORY, p.categoryName(), 1);
+            if (p.userId() != null) adjust(SearchType.AUTHOR, nicknames.get(p.userId()), 1);
+        }
+
+        private void unlink(PostState p) {
+            adjust(SearchType.TITLE, p.title(), -p.titleWeight());
+            adjust(SearchType.CATEGORY, p.categoryName(), -1);
+            if (p.userId() != null) adjust(SearchType.AUTHOR, nicknames.get(p.userId()), -1);
+        }
+
+        void adjust(SearchType type, String text, long delta) {
+            if (text == null || text.isBlank() || delta == 0) return;
+            String id = type.name() + '\u0000' + text;
+
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                if (delta < 0) return;
+                entry = new Entry(type, text);
+                entries.put(id, entry);
+                for (String key : entry.keys) {
+                    descend(key, true).entries.add(entry);
+                }
+            }
+
+            entry.weight += delta;
+            if (entry.weight <= 0) {
+                remove(type, text);
+                return;
+            }
+            for (String key : entry.keys) {
+                refresh(key);
+            }
+        }
+
+        void remove(SearchType type, String text) {
+            Entry entry = entries.remove(type.name() + '\u0000' + text);
+            if (entry == null) return;
+            for (String key : entry.keys) {
+                Node node = descend(key, false);
+                if (node != null) node.entries.remove(entry);
+                refresh(key);
+            }
+        }
+
+        private Node descend(String key, boolean create) {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                Node next = node.children.get(key.charAt(i));
+                if (next == null) {
+                    if (!create) return null;
+                    next = new Node();
+                    node.children.put(key.charAt(i), next);
+                }
+                node = next;
+            }
+            return node;
+        }
+
+        // key 경로의 하위 최대 가중치를 아래에서부터 다시 계산하고, 빈 노드는 떼어냄
+        private void refresh(String key) {
+            Node[] path = new Node[key.length() + 1];
+            path[0] = root;
+            int depth = 0;
+            while (depth < key.length()) {
+                Node next = path[depth].children.get(key.charAt(depth));
+                if (next == null) break;
+                path[++depth] = next;
+            }
+            for (int i = depth; i >= 0; i--) {
+                Node node = path[i];
+                long best = 0;
+                for (Entry e : node.entries) best = Math.max(best, e.weight);
+                for (Node child : node.children.values()) best = Math.max(best, child.best);
+                node.best = best;
+                if (i > 0 && node.entries.isEmpty() && node.children.isEmpty()) {
+                    path[i - 1].children.remove(key.charAt(i - 1));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.nasda.service.search;
+
+import com.example.nasda.dto.search.SearchDocument;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+
+// 헤더 검색의 type 파라미터 (title / content / author / category)
+public enum SearchType {
+
+    TITLE(SearchDocument::title),
+    CONTENT(SearchDocument::description),
+    AUTHOR(SearchDocument::nickname),
+    CATEGORY(SearchDocument::categoryName);
+
+    private final Function<SearchDocument, String> field;
+
+    SearchType(Function<SearchDocument, String> field) {
+        this.field = field;
+    }
+
+    // 이 모드에서 점수를 매길 필드와 가중치 (본문 검색은 제목도 같이, 제목 쪽을 더 무겁게)
+    public Map<SearchType, Double> scoredFields() {
+        Map<SearchType, Double> fields = new EnumMap<>(SearchType.class);
+        if (this == CONTENT) {
+            fields.put(TITLE, 2.0);
+            fields.put(CONTENT, 1.0);
+        } else {
+            fields.put(this, 1.0);
+        }
+        return fields;
+    }
+
+    public String textOf(SearchDocument doc) {
+        String text = field.apply(doc);
+        return text == null ? "" : text;
+    }
+
+    // 모르는 값은 기존처럼 본문 검색
+    public static SearchType from(String type) {
+        if (type == null) return CONTENT;
+        return switch (type.trim()) {
+            case "title" -> TITLE;
+            case "author" -> AUTHOR;
+            case "category" -> CATEGORY;
+            default -> CONTENT;
+        };
+    }
+}
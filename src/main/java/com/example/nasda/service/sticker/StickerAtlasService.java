@@ -0,0 +1,348 @@
+package com.example.nasda.service.sticker;
+
+import com.example.nasda.domain.StickerEntity;
+import com.example.nasda.dto.sticker.StickerAtlasDTO;
+import com.example.nasda.repository.sticker.StickerRepository;
+import com.example.nasda.service.image.ImageResizer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * 카테고리별 스티커 스프라이트 아틀라스 (팔레트가 스티커 N개 대신 이미지 1장 + 좌표 JSON 1개만 받도록).
+ * - 스티커를 cell-size 정사각형 칸에 비율 유지로 줄여 격자로 배치한 PNG, 칸 사이 2px 여백 (축소 시 옆 칸 번짐 방지)
+ * - 파일 이름 = PNG 바이트의 SHA-256 → /stickers/atlas/{sha256}.png 를 1년 immutable 로 서빙
+ * - 카테고리의 스티커가 추가/삭제될 때(커밋 후)만 그 카테고리 것을 버리고, 다음 요청 때 다시 만듦
+ *   (이미지를 못 구한 스티커가 있으면 retry-after 뒤에 한 번 더 만들어 봄)
+ * - 스티커 이미지는 FETCH_PARALLELISM 개씩 동시에 구하고, 전체가 atlas-build-timeout 안에 안 끝나면
+ *   남은 것은 빼고 만듦 (같은 카테고리 요청이 잠금에서 오래 기다리지 않도록)
+ */
+@Log4j2
+@Service
+public class StickerAtlasService {
+
+    public static final String URL_PREFIX = "/stickers/atlas/";
+
+    private static final Pattern ATLAS_NAME = Pattern.compile("^[0-9a-f]{64}\\.png$");
+    private static final int PADDING = 2;
+    private static final int FETCH_PARALLELISM = 8;
+
+    private final StickerRepository stickerRepository;
+    private final StickerImageCache stickerImageCache;
+    private final Path atlasDir;
+    private final int cellSize;
+    private final Duration retryAfter;
+    private final Duration buildTimeout;
+    private final ExecutorService fetchExecutor =
+            Executors.newFixedThreadPool(FETCH_PARALLELISM, Thread.ofVirtual().name("sticker-atlas-", 1).factory());
+
+    private final Map<Integer, Atlas> atlases = new ConcurrentHashMap<>();
+    // 카테고리별 변경 횟수 (만드는 도중 바뀌었으면 결과를 보관하지 않음)
+    private final Map<Integer, Long> generations = new ConcurrentHashMap<>();
+    private final Map<Integer, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    @Autowired
+    public StickerAtlasService(StickerRepository stickerRepository,
+                               StickerImageCache stickerImageCache,
+                               @Value("${app.sticker.cache-dir:sticker-cache}") String cacheDir,
+                               @Value("${app.sticker.atlas-cell-size:96}") int cellSize,
+                               @Value("${app.sticker.retry-after:5m}") Duration retryAfter,
+                               @Value("${app.sticker.atlas-build-timeout:15s}") Duration buildTimeout) {
+        this.stickerRepository = stickerRepository;
+        this.stickerImageCache = stickerImageCache;
+        this.atlasDir = Paths.get(cacheDir).toAbsolutePath().normalize().resolve("atlas");
+        this.cellSize = cellSize;
+        this.retryAfter = retryAfter;
+        this.buildTimeout = buildTimeout;
+    }
+
+    private record Atlas(long generation, StickerAtlasDTO dto, boolean complete, Instant builtAt) {
+    }
+
+    /**
+     * 카테고리 아틀라스 (없거나 무효화됐으면 지금 만듦).
+     */
+    public StickerAtlasDTO getAtlas(Integer categoryId) throws IOException {
+        Atlas atlas = atlases.get(categoryId);
+        if (fresh(categoryId, atlas)) return atlas.dto();
+
+        ReentrantLock lock = locks.computeIfAbsent(categoryId, k -> new ReentrantLock());
+        lock.lock();
+        try {
+            atlas = atlases.get(categoryId);
+            if (fresh(categoryId, atlas)) return atlas.dto();
+
+            long generation = generations.getOrDefault(categoryId, 0L);
+            atlas = build(categoryId, generation);
+            // 만드는 사이 스티커가 바뀌었으면 이번 결과는 이 요청에만 씀
+            if (generations.getOrDefault(categoryId, 0L) == generation) {
+                atlases.put(categoryId, atlas);
+            }
+            return atlas.dto();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 좌표 JSON 의 ETag: 아틀라스 이미지 + 스프라이트(id/이름/개별 URL/좌표) 전체의 해시
+    // (이미지가 같아도 이미지를 못 구한 스티커의 추가/삭제, 이름 변경은 JSON 만 바뀌므로)
+    public String etag(StickerAtlasDTO atlas) {
+        MessageDigest digest = sha256();
+        StringBuilder sb = new StringBuilder().append(atlas.getImageUrl()).append('\n');
+        for (StickerAtlasDTO.Sprite sprite : atlas.getSprites()) {
+            sb.append(sprite.getStickerId()).append('\t').append(sprite.getStickerName()).append('\t')
+                    .append(sprite.getStickerImageUrl()).append('\t')
+                    .append(sprite.getX()).append(',').append(sprite.getY()).append('\n');
+        }
+        String hash = HexFormat.of().formatHex(digest.digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+        return "\"atlas-" + atlas.getStickerCategoryId() + "-" + hash.substring(0, 16) + "\"";
+    }
+
+    private boolean fresh(Integer categoryId, Atlas atlas) {
+        if (atlas == null || atlas.generation() != generations.getOrDefault(categoryId, 0L)) return false;
+        return atlas.complete() || Instant.now().isBefore(atlas.builtAt().plus(retryAfter));
+    }
+
+    /**
+     * ✅ 스티커 추가/삭제: 트랜잭션 안이면 커밋 후에 그 카테고리만 버림.
+     */
+    public void categoryChanged(Integer categoryId) {
+        Runnable invalidation = () -> {
+            generations.merge(categoryId, 1L, Long::sum);
+            atlases.remove(categoryId);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        } else {
+            invalidation.run();
+        }
+    }
+
+    // 서빙할 아틀라스 파일 (이름 형식이 다르거나 없으면 null)
+    public Path atlasFile(String name) {
+        if (name == null || !ATLAS_NAME.matcher(name).matches()) return null;
+        Path file = atlasDir.resolve(name);
+        return Files.isRegularFile(file) ? file : null;
+    }
+
+    // =========================
+    // 생성
+    // =========================
+    private Atlas build(Integer categoryId, long generation) throws IOException {
+        List<StickerEntity> stickers = new ArrayList<>(stickerRepository.findByStickerCategory_StickerCategoryId(categoryId));
+        // 같은 스티커 목록이면 같은 배치 → 같은 바이트 → 같은 URL (브라우저 캐시 유지)
+        stickers.sort(Comparator.comparing(StickerEntity::getStickerId));
+
+        List<BufferedImage> cells = new ArrayList<>();
+        List<StickerEntity> placed = new ArrayList<>();
+        List<StickerAtlasDTO.Sprite> sprites = new ArrayList<>();
+        boolean complete = true;
+
+        // 동시에 받고, 기한이 지나면 안 끝난 것은 취소 (다음 retry-after 뒤 재시도)
+        List<Callable<BufferedImage>> loads = stickers.stream()
+                .<Callable<BufferedImage>>map(sticker -> () -> load(sticker))
+                .toList();
+        List<Future<BufferedImage>> loaded;
+        try {
+            loaded = fetchExecutor.invokeAll(loads, buildTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("스티커 아틀라스 생성 중단: 카테고리 " + categoryId);
+        }
+
+        for (int i = 0; i < stickers.size(); i++) {
+            BufferedImage cell = done(loaded.get(i));
+            if (cell == null) {
+                complete = false;
+                continue;
+            }
+            cells.add(cell);
+            placed.add(stickers.get(i));
+        }
+
+        int columns = Math.max(1, (int) Math.ceil(Math.sqrt(cells.size())));
+        int rows = Math.max(1, (cells.size() + columns - 1) / columns);
+        int stride = cellSize + PADDING;
+        int width = columns * stride - PADDING;
+        int height = rows * stride - PADDING;
+
+        String name = null;
+        if (!cells.isEmpty()) {
+            BufferedImage sheet = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = sheet.createGraphics();
+            try {
+                for (int i = 0; i < cells.size(); i++) {
+                    g.drawImage(cells.get(i), (i % columns) * stride, (i / columns) * stride, null);
+                }
+            } finally {
+                g.dispose();
+            }
+            name = write(sheet);
+        }
+
+        int index = 0;
+        for (StickerEntity sticker : stickers) {
+            boolean inSheet = index < placed.size() && placed.get(index) == sticker;
+            sprites.add(StickerAtlasDTO.Sprite.builder()
+                    .stickerId(sticker.getStickerId())
+                    .stickerName(sticker.getStickerName())
+                    .stickerImageUrl(StickerImageCache.proxyUrl(sticker.getStickerId(), sticker.getStickerImageUrl()))
+                    .x(inSheet ? (index % columns) * stride : null)
+                    .y(inSheet ? (index / columns) * stride : null)
+                    .build());
+            if (inSheet) index++;
+        }
+
+        log.info("스티커 아틀라스 생성: 카테고리 {} ({}개 중 {}개, {}x{})",
+                categoryId, stickers.size(), placed.size(), width, height);
+
+        StickerAtlasDTO dto = StickerAtlasDTO.builder()
+                .stickerCategoryId(categoryId)
+                .imageUrl(name == null ? null : URL_PREFIX + name)
+                .width(name == null ? null : width)
+                .height(name == null ? null : height)
+                .cellSize(cellSize)
+                .sprites(sprites)
+                .build();
+        return new Atlas(generation, dto, complete, Instant.now());
+    }
+
+    private static BufferedImage done(Future<BufferedImage> future) {
+        if (future.isCancelled()) return null;
+        try {
+            return future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            return null; // load 는 예외를 던지지 않음 (취소/중단만)
+        }
+    }
+
+    // 외부 이미지는 StickerImageCache(디스크, 픽셀 수 상한 + 칸 크기에 맞춰 솎아 읽음), /로 시작하는 로컬 이미지는 static 리소스에서
+    private BufferedImage load(StickerEntity sticker) {
+        String source = sticker.getStickerImageUrl();
+        if (source == null) return null;
+        try {
+            BufferedImage image;
+            if (StickerImageCache.isRemote(source)) {
+                StickerImageCache.CachedImage cached = stickerImageCache.image(sticker.getStickerId());
+                image = cached == null ? null : ImageResizer.read(cached.file(), cellSize);
+            } else {
+                ClassPathResource resource = new ClassPathResource("static" + (source.startsWith("/") ? "" : "/") + source);
+                if (!resource.exists()) return null;
+                try (InputStream in = resource.getInputStream()) {
+                    image = ImageIO.read(in);
+                }
+            }
+            return image == null ? null : fit(image, cellSize);
+        } catch (IOException | RuntimeException e) {
+            log.warn("스티커 이미지를 아틀라스에 넣지 못함: id={} ({})", sticker.getStickerId(), e.toString());
+            return null;
+        }
+    }
+
+    // cell x cell 투명 칸 가운데에 비율 유지로 (절반씩 줄여 가며, ImageResizer 와 같은 방식)
+    static BufferedImage fit(BufferedImage src, int cell) {
+        double ratio = Math.min((double) cell / src.getWidth(), (double) cell / src.getHeight());
+        int targetW = Math.max(1, (int) Math.round(src.getWidth() * Math.min(1.0, ratio)));
+        int targetH = Math.max(1, (int) Math.round(src.getHeight() * Math.min(1.0, ratio)));
+
+        BufferedImage current = src;
+        int w = src.getWidth();
+        int h = src.getHeight();
+        while (w / 2 >= targetW && h / 2 >= targetH) {
+            w /= 2;
+            h /= 2;
+            current = draw(current, w, h, w, h, 0, 0);
+        }
+        return draw(current, cell, cell, targetW, targetH, (cell - targetW) / 2, (cell - targetH) / 2);
+    }
+
+    private static BufferedImage draw(BufferedImage src, int canvasW, int canvasH, int w, int h, int x, int y) {
+        BufferedImage out = new BufferedImage(canvasW, canvasH, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(src, x, y, w, h, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    // PNG 로 인코딩 → 해시 이름으로 저장 (같은 이름이 이미 있으면 내용도 같으므로 그대로)
+    private String write(BufferedImage sheet) throws IOException {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(sheet, "png", png);
+        byte[] bytes = png.toByteArray();
+
+        String name = HexFormat.of().formatHex(sha256().digest(bytes)) + ".png";
+
+        Path target = atlasDir.resolve(name);
+        if (!Files.isRegularFile(target)) {
+            Files.createDirectories(atlasDir);
+            Path temp = Files.createTempFile(atlasDir, ".atlas-", ".tmp");
+            try {
+                Files.write(temp, bytes);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+        return name;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        fetchExecutor.shutdownNow();
+    }
+}
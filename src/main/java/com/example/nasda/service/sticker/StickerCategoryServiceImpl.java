@@ -3,15 +3,14 @@ package com.example.nasda.service.sticker;
 import com.example.nasda.domain.StickerCategoryEntity;
 import com.example.nasda.dto.sticker.StickerCategoryRequestDTO;
 import com.example.nasda.dto.sticker.StickerCategoryResponseDTO;
+import com.example.nasda.mapper.StickerMapper;
 import com.example.nasda.repository.sticker.StickerCategoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Log4j2
 @Service
@@ -20,7 +19,7 @@ import java.util.stream.Collectors;
 public class StickerCategoryServiceImpl implements StickerCategoryService {
 
     private final StickerCategoryRepository stickerCategoryRepository;
-    private final ModelMapper modelMapper;
+    private final StickerMapper stickerMapper;
 
     /**
      * 카테고리 생성
@@ -52,11 +51,8 @@ public class StickerCategoryServiceImpl implements StickerCategoryService {
         // 1. 전체 조회
         List<StickerCategoryEntity> categories = stickerCategoryRepository.findAll();
 
-        // 2. 변환 (ModelMapper의 힘을 빌려 한 줄로 처리!)
-        // Entity와 DTO의 필드명(name, isActive)이 똑같아서 아주 매끄럽게 변환됩니다.
-        return categories.stream()
-                .map(entity -> modelMapper.map(entity, StickerCategoryResponseDTO.class))
-                .collect(Collectors.toList());
+        // 2. 변환
+        return stickerMapper.toCategoryDtoList(categories);
     }
 
     /**
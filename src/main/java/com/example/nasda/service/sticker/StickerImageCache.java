@@ -0,0 +1,400 @@
+package com.example.nasda.service.sticker;
+
+import com.example.nasda.domain.StickerEntity;
+import com.example.nasda.repository.sticker.StickerRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 외부 스티커 이미지(raw.githubusercontent.com 등)를 한 번만 받아 디스크에 두고 /stickers/img/{id} 로 서빙.
+ * - 캐시 파일 이름 = 원본 URL의 SHA-256 (+ 확장자) → 같은 URL은 한 번만 받음, 받은 파일은 다시 확인하지 않음
+ * - 같은 스티커를 동시에 요청해도 다운로드는 하나 (나머지는 그 결과를 기다림), 실패하면 retry-after 동안 다시 받지 않음
+ * - 기동 시 bundle-dir({host}/{path} 구조, 예: wget -x 로 받은 폴더)에 있는 파일로 네트워크 없이 미리 채움
+ * - 받는 곳은 app.sticker.allowed-hosts 의 호스트만, 리다이렉트도 한 단계씩 같은 확인, 내부 주소로 풀리면 거부
+ * - Content-Type 과 파일 앞부분(PNG/JPEG/GIF/WebP 시그니처)이 모두 이미지일 때만 캐시 → 임의 내용 중계 방지
+ * 원본이 http(s)가 아닌 스티커(/images/... 등 이미 로컬)는 프록시하지 않고 원래 URL을 그대로 씀.
+ */
+@Log4j2
+@Component
+public class StickerImageCache {
+
+    public static final String URL_PREFIX = "/stickers/img/";
+
+    private static final Set<String> EXTENSIONS = Set.of("png", "jpg", "jpeg", "gif", "webp");
+    private static final Set<String> CONTENT_TYPES = Set.of("image/png", "image/jpeg", "image/gif", "image/webp");
+    private static final int MAX_REDIRECTS = 3;
+
+    private final StickerRepository stickerRepository;
+    private final Path cacheDir;
+    private final Path bundleDir;
+    private final Duration fetchTimeout;
+    private final long maxBytes;
+    private final Duration retryAfter;
+    private final Set<String> allowedHosts;
+    private final HttpClient client;
+
+    // 스티커 id → 원본 URL (스티커는 수정 API가 없으므로 id 가 살아 있는 동안 바뀌지 않음)
+    private final Map<Integer, String> sources = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Instant> failedUntil = new ConcurrentHashMap<>();
+
+    @Autowired
+    public StickerImageCache(StickerRepository stickerRepository,
+                             @Value("${app.sticker.cache-dir:sticker-cache}") String cacheDir,
+                             @Value("${app.sticker.bundle-dir:sticker-bundle}") String bundleDir,
+                             @Value("${app.sticker.fetch-timeout:10s}") Duration fetchTimeout,
+                             @Value("${app.sticker.max-size:2MB}") DataSize maxSize,
+                             @Value("${app.sticker.retry-after:5m}") Duration retryAfter,
+                             @Value("${app.sticker.allowed-hosts:raw.githubusercontent.com}") String allowedHosts) {
+        this.stickerRepository = stickerRepository;
+        this.cacheDir = Paths.get(cacheDir).toAbsolutePath().normalize();
+        this.bundleDir = Paths.get(bundleDir).toAbsolutePath().normalize();
+        this.fetchTimeout = fetchTimeout;
+        this.maxBytes = maxSize.toBytes();
+        this.retryAfter = retryAfter;
+        this.allowedHosts = Arrays.stream(allowedHosts.split(","))
+                .map(h -> h.trim().toLowerCase(Locale.ROOT))
+                .filter(h -> !h.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    // 서빙할 파일과 그 이름 (이름 = 원본 URL 해시라 그대로 강한 ETag), 형식은 파일 앞부분으로 판별한 값
+    public record CachedImage(Path file, String name, String contentType) {
+    }
+
+    /**
+     * 화면/API 에 내려줄 스티커 이미지 주소. 외부 URL이면 프록시 주소, 아니면 원래 값.
+     */
+    public static String proxyUrl(Integer stickerId, String source) {
+        return stickerId != null && isRemote(source) ? URL_PREFIX + stickerId : source;
+    }
+
+    private static String hostOf(String source) {
+        try {
+            return URI.create(source).getHost();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    static boolean isRemote(String source) {
+        if (source == null) return false;
+        String lower = source.toLowerCase(Locale.ROOT);
+        return lower.startsWith("https://") || lower.startsWith("http://");
+    }
+
+    /**
+     * 캐시된 파일 (없으면 지금 받아서). 없는 스티커, 로컬 스티커, 받기 실패면 null.
+     */
+    public CachedImage image(Integer stickerId) throws IOException {
+        String source = sources.get(stickerId);
+        if (source == null) {
+            source = stickerRepository.findById(stickerId)
+                    .map(StickerEntity::getStickerImageUrl)
+                    .orElse(null);
+            if (source == null) return null;
+            sources.put(stickerId, source);
+        }
+        if (!isRemote(source) || !allowedHost(hostOf(source))) return null;
+
+        String name = cacheName(source);
+        Path cached = cacheDir.resolve(name);
+        if (Files.isRegularFile(cached)) return cachedImage(cached, name);
+
+        Instant until = failedUntil.get(name);
+        if (until != null && Instant.now().isBefore(until)) return null;
+
+        Path file = fetchOnce(name, source);
+        return file == null ? null : cachedImage(file, name);
+    }
+
+    private static CachedImage cachedImage(Path file, String name) throws IOException {
+        String contentType = imageType(file);
+        return contentType == null ? null : new CachedImage(file, name, contentType);
+    }
+
+    // 삭제된 스티커 (id 재사용에 대비해 매핑만 지움, 파일은 같은 URL을 쓰는 다른 스티커가 있을 수 있어 둠)
+    public void evict(Integer stickerId) {
+        sources.remove(stickerId);
+    }
+
+    // ✅ 같은 URL을 동시에 요청하면 먼저 온 요청만 받고 나머지는 결과를 기다림
+    private Path fetchOnce(String name, String source) throws IOException {
+        CompletableFuture<Path> mine = new CompletableFuture<>();
+        CompletableFuture<Path> running = inFlight.putIfAbsent(name, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+
+        try {
+            Path file = fill(name, source, true);
+            if (file == null) failedUntil.put(name, Instant.now().plus(retryAfter));
+            else failedUntil.remove(name);
+            mine.complete(file);
+            return file;
+        } catch (IOException | RuntimeException e) {
+            failedUntil.put(name, Instant.now().plus(retryAfter));
+            mine.complete(null);
+            log.warn("스티커 이미지 받기 실패: {} ({})", source, e.toString());
+            return null;
+        } finally {
+            inFlight.remove(name, mine);
+        }
+    }
+
+    // 번들에 있으면 복사, 없으면 (remote 일 때만) 원본에서 받음
+    private Path fill(String name, String source, boolean remote) throws IOException {
+        Path target = cacheDir.resolve(name);
+        Path bundled = bundlePath(source);
+        if (bundled != null && Files.isRegularFile(bundled) && Files.size(bundled) <= maxBytes
+                && imageType(bundled) != null) {
+            Path temp = tempFile();
+            try {
+                Files.copy(bundled, temp, StandardCopyOption.REPLACE_EXISTING);
+                return publish(temp, target);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+        return remote ? download(source, target) : null;
+    }
+
+    // ✅ 리다이렉트는 HttpClient 에 맡기지 않고 한 단계마다 호스트/주소를 다시 확인
+    private Path download(String source, Path target) throws IOException {
+        URI uri = URI.create(source);
+        for (int hop = 0; hop <= MAX_REDIRECTS; hop++) {
+            checkTarget(uri);
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .timeout(fetchTimeout)
+                    .header("User-Agent", "nasda-sticker-cache")
+                    .GET()
+                    .build();
+            HttpResponse<InputStream> response;
+            try {
+                response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("스티커 이미지 받기 중단: " + source);
+            }
+
+            try (InputStream in = response.body()) {
+                int status = response.statusCode();
+                if (status / 100 == 3) {
+                    String location = response.headers().firstValue("Location").orElse(null);
+                    if (location == null) break;
+                    uri = uri.resolve(location);
+                    continue;
+                }
+
+                String contentType = response.headers().firstValue("Content-Type").orElse("")
+                        .split(";")[0].trim().toLowerCase(Locale.ROOT);
+                if (status != 200 || !CONTENT_TYPES.contains(contentType)) {
+                    log.warn("스티커 이미지 응답 이상 ({} {}): {}", status, contentType, source);
+                    return null;
+                }
+
+                Path temp = tempFile();
+                try {
+                    try (OutputStream out = Files.newOutputStream(temp)) {
+                        byte[] buffer = new byte[16 * 1024];
+                        long total = 0;
+                        int read;
+                        while ((read = in.read(buffer)) != -1) {
+                            total += read;
+                            if (total > maxBytes) {
+                                log.warn("스티커 이미지가 너무 큼 (> {} bytes): {}", maxBytes, source);
+                                return null;
+                            }
+                            out.write(buffer, 0, read);
+                        }
+                    }
+                    // 헤더만 image/* 이고 내용은 HTML 등인 응답은 캐시하지 않음
+                    if (imageType(temp) == null) {
+                        log.warn("스티커 이미지 형식이 아님: {}", source);
+                        return null;
+                    }
+                    return publish(temp, target);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            }
+        }
+        log.warn("스티커 이미지 리다이렉트 처리 실패: {}", source);
+        return null;
+    }
+
+    /**
+     * 등록하려는 스티커 이미지 주소 확인. 외부 URL이면 허용 호스트만 (로컬 경로는 그대로).
+     */
+    public void checkSource(String source) {
+        if (!isRemote(source)) return;
+        String host;
+        try {
+            host = URI.create(source).getHost();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 스티커 이미지 주소입니다: " + source);
+        }
+        if (!allowedHost(host)) {
+            throw new IllegalArgumentException("허용되지 않은 스티커 이미지 호스트입니다: " + host);
+        }
+    }
+
+    private boolean allowedHost(String host) {
+        return host != null && allowedHosts.contains(host.toLowerCase(Locale.ROOT));
+    }
+
+    private void checkTarget(URI uri) throws IOException {
+        String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+        if (!scheme.equals("https") && !scheme.equals("http")) {
+            throw new IOException("허용되지 않은 스킴: " + uri);
+        }
+        if (!allowedHost(uri.getHost())) {
+            throw new IOException("허용되지 않은 호스트: " + uri.getHost());
+        }
+        checkAddress(uri.getHost());
+    }
+
+    // 허용 호스트라도 DNS 가 내부 주소를 가리키면 거부 (루프백, 사설망, 링크 로컬, 멀티캐스트, IPv6 ULA)
+    void checkAddress(String host) throws IOException {
+        for (InetAddress address : InetAddress.getAllByName(host)) {
+            byte[] raw = address.getAddress();
+            boolean uniqueLocal = raw.length == 16 && (raw[0] & 0xFE) == 0xFC;
+            if (address.isLoopbackAddress() || address.isSiteLocalAddress() || address.isLinkLocalAddress()
+                    || address.isAnyLocalAddress() || address.isMulticastAddress() || uniqueLocal) {
+                throw new IOException("내부 주소로는 받지 않음: " + host + " → " + address.getHostAddress());
+            }
+        }
+    }
+
+    // 앞 12바이트로 형식 판별 (PNG / JPEG / GIF / WebP 만), 아니면 null
+    static String imageType(Path file) throws IOException {
+        byte[] h;
+        try (InputStream in = Files.newInputStream(file)) {
+            h = in.readNBytes(12);
+        }
+        if (h.length >= 8 && (h[0] & 0xFF) == 0x89 && h[1] == 'P' && h[2] == 'N' && h[3] == 'G') return "image/png";
+        if (h.length >= 3 && (h[0] & 0xFF) == 0xFF && (h[1] & 0xFF) == 0xD8 && (h[2] & 0xFF) == 0xFF) return "image/jpeg";
+        if (h.length >= 6 && h[0] == 'G' && h[1] == 'I' && h[2] == 'F' && h[3] == '8') return "image/gif";
+        if (h.length >= 12 && h[0] == 'R' && h[1] == 'I' && h[2] == 'F' && h[3] == 'F'
+                && h[8] == 'W' && h[9] == 'E' && h[10] == 'B' && h[11] == 'P') return "image/webp";
+        return null;
+    }
+
+    private Path tempFile() throws IOException {
+        Files.createDirectories(cacheDir);
+        return Files.createTempFile(cacheDir, ".sticker-", ".tmp");
+    }
+
+    private static Path publish(Path temp, Path target) throws IOException {
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return target;
+    }
+
+    // https://host/a/b%20c.png → {bundle}/host/a/b c.png (번들 폴더 밖으로 나가는 경로는 무시)
+    Path bundlePath(String source) {
+        try {
+            URI uri = URI.create(source);
+            if (uri.getHost() == null || uri.getRawPath() == null) return null;
+            Path path = bundleDir.resolve(uri.getHost());
+            for (String segment : uri.getRawPath().split("/")) {
+                if (segment.isEmpty()) continue;
+                path = path.resolve(URLDecoder.decode(segment, StandardCharsets.UTF_8));
+            }
+            path = path.normalize();
+            return path.startsWith(bundleDir) ? path : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    static String cacheName(String source) {
+        String hash;
+        try {
+            hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        String path = source;
+        int cut = path.indexOf('?');
+        if (cut > -1) path = path.substring(0, cut);
+        int dot = path.lastIndexOf('.');
+        String ext = dot > path.lastIndexOf('/') ? path.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+        return hash + "." + (EXTENSIONS.contains(ext) ? ext : "png");
+    }
+
+    /**
+     * 기동 후 한 번: 전체 스티커의 id → URL 매핑을 채우고, 캐시에 없는 이미지는 번들에서 복사.
+     * 번들에도 없는 것은 처음 요청될 때 받음 (기동 시 외부로 210번 요청하지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prefetch() {
+        List<StickerEntity> stickers = stickerRepository.findAll();
+        Thread.ofVirtual().name("sticker-prefetch").start(() -> prefetch(stickers));
+    }
+
+    void prefetch(List<StickerEntity> stickers) {
+        int copied = 0;
+        int missing = 0;
+        for (StickerEntity sticker : stickers) {
+            String source = sticker.getStickerImageUrl();
+            if (source == null) continue;
+            sources.put(sticker.getStickerId(), source);
+            if (!isRemote(source)) continue;
+
+            String name = cacheName(source);
+            if (Files.isRegularFile(cacheDir.resolve(name))) continue;
+            try {
+                if (fill(name, source, false) != null) copied++;
+                else missing++;
+            } catch (IOException e) {
+                missing++;
+                log.warn("스티커 번들 복사 실패: {} ({})", source, e.toString());
+            }
+        }
+        log.info("스티커 이미지 캐시 준비: 스티커 {}개, 번들에서 복사 {}개, 첫 요청 때 받을 것 {}개",
+                stickers.size(), copied, missing);
+    }
+}
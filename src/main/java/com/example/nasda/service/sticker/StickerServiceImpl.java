@@ -4,16 +4,15 @@ import com.example.nasda.domain.StickerCategoryEntity;
 import com.example.nasda.domain.StickerEntity;
 import com.example.nasda.dto.sticker.StickerRequestDTO;
 import com.example.nasda.dto.sticker.StickerResponseDTO;
+import com.example.nasda.mapper.StickerMapper;
 import com.example.nasda.repository.sticker.StickerCategoryRepository;
 import com.example.nasda.repository.sticker.StickerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Log4j2
 @Service
@@ -24,8 +23,10 @@ public class StickerServiceImpl implements StickerService {
     private final StickerRepository stickerRepository;
     private final StickerCategoryRepository stickerCategoryRepository;
 
-    // RootConfig에 등록한 ModelMapper 주입
-    private final ModelMapper modelMapper;
+    // 리플렉션 없이 getter/builder로 변환하는 매퍼
+    private final StickerMapper stickerMapper;
+    private final StickerImageCache stickerImageCache;
+    private final StickerAtlasService stickerAtlasService;
 
     /**
      * 스티커 등록
@@ -38,6 +39,9 @@ public class StickerServiceImpl implements StickerService {
         StickerCategoryEntity category = stickerCategoryRepository.findById(requestDTO.getStickerCategoryId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리입니다. ID=" + requestDTO.getStickerCategoryId()));
 
+        // 외부 이미지는 허용 호스트만 (서버가 대신 받아 공개로 서빙하므로)
+        stickerImageCache.checkSource(requestDTO.getStickerImageUrl());
+
         // 2. 스티커(책) 생성 및 서가 지정
         StickerEntity sticker = StickerEntity.builder()
                 .stickerCategory(category) // ★ 연관 관계 매핑
@@ -46,7 +50,11 @@ public class StickerServiceImpl implements StickerService {
                 .build();
 
         // 3. 저장
-        return stickerRepository.save(sticker).getStickerId();
+        Integer stickerId = stickerRepository.save(sticker).getStickerId();
+
+        // 4. 이 카테고리 아틀라스만 커밋 후 다시 만들도록
+        stickerAtlasService.categoryChanged(category.getStickerCategoryId());
+        return stickerId;
     }
 
     /**
@@ -54,9 +62,7 @@ public class StickerServiceImpl implements StickerService {
      */
     @Override
     public List<StickerResponseDTO> getAllStickers() {
-        return stickerRepository.findAll().stream()
-                .map(entity -> modelMapper.map(entity, StickerResponseDTO.class))
-                .collect(Collectors.toList());
+        return stickerMapper.toDtoList(stickerRepository.findAll());
     }
 
     /**
@@ -67,11 +73,8 @@ public class StickerServiceImpl implements StickerService {
         // 1. Repository에서 조회 (EntityGraph 덕분에 카테고리 정보도 이미 있음)
         List<StickerEntity> stickers = stickerRepository.findByStickerCategory_StickerCategoryId(categoryId);
 
-        // 2. ModelMapper 변환
-        // LOOSE 전략 덕분에 sticker.stickerCategory.name -> dto.categoryName 자동 매핑
-        return stickers.stream()
-                .map(entity -> modelMapper.map(entity, StickerResponseDTO.class))
-                .collect(Collectors.toList());
+        // 2. DTO 변환 (sticker.stickerCategory.name -> dto.categoryName)
+        return stickerMapper.toDtoList(stickers);
     }
 
     /**
@@ -80,9 +83,13 @@ public class StickerServiceImpl implements StickerService {
     @Override
     @Transactional
     public void deleteSticker(Integer stickerId) {
-        if (!stickerRepository.existsById(stickerId)) {
-            throw new IllegalArgumentException("삭제할 스티커가 없습니다. ID=" + stickerId);
-        }
-        stickerRepository.deleteById(stickerId);
+        StickerEntity sticker = stickerRepository.findById(stickerId)
+                .orElseThrow(() -> new IllegalArgumentException("삭제할 스티커가 없습니다. ID=" + stickerId));
+        // 카테고리는 LAZY 프록시지만 id 는 로딩 없이 꺼낼 수 있음
+        Integer categoryId = sticker.getStickerCategory().getStickerCategoryId();
+
+        stickerRepository.delete(sticker);
+        stickerImageCache.evict(stickerId);
+        stickerAtlasService.categoryChanged(categoryId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.example.nasda.service.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+
+/**
+ * 로컬 디스크 저장소. 이름 앞 4글자로 2단계 폴더를 나눔 (/uploads/abcd12….png → {dir}/ab/cd/abcd12….png)
+ * → 한 폴더에 파일이 수백만 개 쌓이지 않음 (폴더당 최대 256개 하위 폴더).
+ * 샤딩 도입 전 평평하게 저장된 파일도 그대로 읽힘 (URL은 바뀌지 않음).
+ */
+@Component
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "local", matchIfMissing = true)
+public class LocalStorageBackend implements StorageBackend {
+
+    public static final String URL_PREFIX = "/uploads/";
+
+    private final Path root;
+
+    public LocalStorageBackend(@Value("${app.upload.dir}") String uploadDir) {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+    }
+
+    public Path root() {
+        return root;
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return URL_PREFIX + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        if (url == null || !url.startsWith(URL_PREFIX)) return null;
+        return StorageBackend.validKey(url.substring(URL_PREFIX.length()));
+    }
+
+    // 새로 쓸 위치
+    Path shardPath(String key) {
+        if (key.length() < 4) return root.resolve(key);
+        String lower = key.toLowerCase(Locale.ROOT);
+        return root.resolve(lower.substring(0, 2)).resolve(lower.substring(2, 4)).resolve(key);
+    }
+
+    // 샤드에 없고 예전 평평한 위치에 있으면 그쪽
+    @Override
+    public Path localPath(String key) {
+        Path sharded = shardPath(key);
+        if (Files.exists(sharded)) return sharded;
+        Path flat = root.resolve(key);
+        return Files.exists(flat) ? flat : sharded;
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(localPath(key));
+    }
+
+    @Override
+    public Path tempFile(String prefix) throws IOException {
+        Files.createDirectories(root);
+        return Files.createTempFile(root, prefix, ".tmp");
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        Path target = shardPath(key);
+        Files.createDirectories(target.getParent());
+        // 같은 내용을 동시에 쓴 경우에도 바이트가 같으므로 덮어써도 무방
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public <T> T read(String key, LocalRead<T> reader) throws IOException {
+        return reader.apply(localPath(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(shardPath(key));
+        Files.deleteIfExists(root.resolve(key));
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.nasda.service.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * S3 호환 오브젝트 스토리지 (AWS S3, MinIO 등). SDK 없이 JDK HttpClient + SigV4 서명, path-style 주소.
+ * - 여러 앱 서버가 같은 버킷을 공유하므로 노드를 늘려도 업로드가 한쪽 디스크에 갇히지 않음
+ * - 브라우저는 app.storage.s3.public-url(CDN 등, 기본은 endpoint/bucket)에서 직접 받음
+ * - 본문은 UNSIGNED-PAYLOAD (내용 검증은 FileStorageService 가 SHA-256 으로 이미 함)
+ */
+@Component
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "s3")
+public class S3StorageBackend implements StorageBackend {
+
+    private static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+    private static final String EMPTY_SHA256 = "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+    private static final DateTimeFormatter AMZ_DATE = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    // 키 = 내용 해시라 한 번 올린 객체는 바뀌지 않음
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    private final URI endpoint;
+    private final String bucket;
+    private final String region;
+    private final String accessKey;
+    private final String secretKey;
+    private final String publicUrl;
+    private final HttpClient client;
+
+    public S3StorageBackend(@Value("${app.storage.s3.endpoint}") String endpoint,
+                            @Value("${app.storage.s3.bucket}") String bucket,
+                            @Value("${app.storage.s3.region:us-east-1}") String region,
+                            @Value("${app.storage.s3.access-key}") String accessKey,
+                            @Value("${app.storage.s3.secret-key}") String secretKey,
+                            @Value("${app.storage.s3.public-url:}") String publicUrl) {
+        String base = endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint;
+        this.endpoint = URI.create(base);
+        this.bucket = bucket;
+        this.region = region;
+        this.accessKey = accessKey;
+        this.secretKey = secretKey;
+        String pub = publicUrl == null || publicUrl.isBlank() ? base + "/" + bucket : publicUrl;
+        this.publicUrl = pub.endsWith("/") ? pub.substring(0, pub.length() - 1) : pub;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return publicUrl + "/" + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        if (url == null) return null;
+        if (url.startsWith(publicUrl + "/")) {
+            return StorageBackend.validKey(url.substring(publicUrl.length() + 1));
+        }
+        // 로컬 저장소 시절 URL (파일을 버킷으로 옮긴 뒤에도 DB 값은 그대로)
+        if (url.startsWith(LocalStorageBackend.URL_PREFIX)) {
+            return StorageBackend.validKey(url.substring(LocalStorageBackend.URL_PREFIX.length()));
+        }
+        return null;
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        HttpResponse<Void> response = send("HEAD", key, HttpRequest.BodyPublishers.noBody(), EMPTY_SHA256,
+                Map.of(), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 404) return false;
+        check(response, "HEAD", key);
+        return true;
+    }
+
+    @Override
+    public Path tempFile(String prefix) throws IOException {
+        return Files.createTempFile(prefix, ".tmp");
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        HttpResponse<Void> response = send("PUT", key, HttpRequest.BodyPublishers.ofFile(source), UNSIGNED_PAYLOAD,
+                Map.of("Content-Type", contentType, "Cache-Control", IMMUTABLE),
+                HttpResponse.BodyHandlers.discarding());
+        check(response, "PUT", key);
+    }
+
+    @Override
+    public <T> T read(String key, LocalRead<T> reader) throws IOException {
+        Path temp = Files.createTempFile(".s3-", ".tmp");
+        try {
+            HttpResponse<Path> response = send("GET", key, HttpRequest.BodyPublishers.noBody(), EMPTY_SHA256,
+                    Map.of(), HttpResponse.BodyHandlers.ofFile(temp));
+            if (response.statusCode() == 404) throw new NoSuchFileException(key);
+            check(response, "GET", key);
+            return reader.apply(temp);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        HttpResponse<Void> response = send("DELETE", key, HttpRequest.BodyPublishers.noBody(), EMPTY_SHA256,
+                Map.of(), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 404) return;
+        check(response, "DELETE", key);
+    }
+
+    private <T> HttpResponse<T> send(String method, String key, HttpRequest.BodyPublisher body, String payloadHash,
+                                     Map<String, String> unsignedHeaders, HttpResponse.BodyHandler<T> handler)
+            throws IOException {
+        URI uri = URI.create(endpoint + "/" + bucket + "/" + key);
+        String amzDate = ZonedDateTime.now(ZoneOffset.UTC).format(AMZ_DATE);
+
+        Map<String, String> signed = new TreeMap<>();
+        signed.put("host", uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + uri.getPort());
+        signed.put("x-amz-content-sha256", payloadHash);
+        signed.put("x-amz-date", amzDate);
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30))
+                .method(method, body)
+                .header("x-amz-content-sha256", payloadHash)
+                .header("x-amz-date", amzDate)
+                .header("Authorization", authorization(method, uri, signed, payloadHash, amzDate,
+                        accessKey, secretKey, region));
+        unsignedHeaders.forEach(request::header);
+
+        try {
+            return client.send(request.build(), handler);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("S3 요청 중단: " + method + " " + key);
+        }
+    }
+
+    private static void check(HttpResponse<?> response, String method, String key) throws IOException {
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("S3 " + method + " 실패 (" + response.statusCode() + "): " + key);
+        }
+    }
+
+    // =========================
+    // AWS Signature Version 4 (쿼리 문자열 없는 요청만)
+    // =========================
+    static String authorization(String method, URI uri, Map<String, String> signedHeaders, String payloadHash,
+                                String amzDate, String accessKey, String secretKey, String region) {
+        Map<String, String> headers = new TreeMap<>(signedHeaders);
+        String canonicalHeaders = headers.entrySet().stream()
+                .map(e -> e.getKey() + ":" + e.getValue().trim() + "\n")
+                .collect(Collectors.joining());
+        String signedNames = String.join(";", headers.keySet());
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+
+        String canonicalRequest = method + "\n" + path + "\n" + "\n"
+                + canonicalHeaders + "\n" + signedNames + "\n" + payloadHash;
+
+        String date = amzDate.substring(0, 8);
+        String scope = date + "/" + region + "/s3/aws4_request";
+        String stringToSign = "AWS4-HMAC-SHA256\n" + amzDate + "\n" + scope + "\n" + hex(sha256(canonicalRequest));
+
+        byte[] key = hmac(("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8), date);
+        key = hmac(key, region);
+        key = hmac(key, "s3");
+        key = hmac(key, "aws4_request");
+        String signature = hex(hmac(key, stringToSign));
+
+        return "AWS4-HMAC-SHA256 Credential=" + accessKey + "/" + scope
+                + ", SignedHeaders=" + signedNames + ", Signature=" + signature;
+    }
+
+    private static byte[] hmac(byte[] key, String data) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] sha256(String data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        return HexFormat.of().formatHex(bytes);
+    }
+}
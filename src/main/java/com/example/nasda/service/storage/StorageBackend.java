@@ -0,0 +1,49 @@
+package com.example.nasda.service.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 파일 저장소 (app.storage.backend 로 선택: local | s3).
+ * 키는 폴더 없는 파일 이름 ({sha256}.png, {sha256}_w400.jpg, 내용 주소 도입 전 {uuid}.jpg)이고,
+ * 실제 배치(샤딩 폴더, 버킷)와 브라우저 URL은 구현이 정합니다.
+ * FileStorageService 만 직접 사용합니다 (참조 수 관리/해시 검증은 그쪽).
+ */
+public interface StorageBackend {
+
+    // 점으로 시작하는 이름(.upload-*.tmp 등 임시 파일)과 경로 구분자는 허용하지 않음
+    Pattern KEY = Pattern.compile("^[A-Za-z0-9][A-Za-z0-9._-]*$");
+
+    String urlOf(String key);
+
+    // 이 저장소가 만든(또는 예전 /uploads/) URL → 키, 아니면 null
+    String keyOf(String url);
+
+    boolean exists(String key) throws IOException;
+
+    // put 에 넘길 임시 파일 (같은 파일 시스템이면 이름 변경만으로 공개됨)
+    Path tempFile(String prefix) throws IOException;
+
+    // 다 쓴 임시 파일을 키로 공개 (원자적: 읽는 쪽은 이전 상태 아니면 완성된 파일만 봄)
+    void put(String key, Path source, String contentType) throws IOException;
+
+    // 로컬 경로가 필요한 작업(ImageIO 등)용, 원격 저장소는 임시 파일로 받아서 넘기고 지움
+    <T> T read(String key, LocalRead<T> reader) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    // 디스크에서 바로 서빙할 수 있으면 그 경로 (원격 저장소는 null → UploadServlet 이 URL로 리다이렉트)
+    default Path localPath(String key) {
+        return null;
+    }
+
+    @FunctionalInterface
+    interface LocalRead<T> {
+        T apply(Path file) throws IOException;
+    }
+
+    static String validKey(String key) {
+        return key != null && KEY.matcher(key).matches() ? key : null;
+    }
+}
@@ -0,0 +1,319 @@
+package com.example.nasda.service.storage;
+
+import com.example.nasda.domain.StoredFileEntity;
+import com.example.nasda.repository.PostImageRepository;
+import com.example.nasda.repository.StoredFileRepository;
+import com.example.nasda.service.FileStorageService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 업로드 폴더에서 아무도 참조하지 않는 파일 정리 (로컬 저장소 전용).
+ * 생기는 경우: 트랜잭션 롤백(파일은 커밋 전에 써짐), 커밋 후 삭제 실패, 썸네일 작업 도중 글 삭제, 남은 임시 파일.
+ * - 폴더를 500개씩 끊어서 읽고(샤드 폴더는 이름순), 묶음마다 DB에 한 번에 확인
+ *   내용 주소 파일({sha256}[_wNNN].ext)은 stored_files 기본키, 예전 UUID 원본은 post_images.image_url IN
+ *   (예전 썸네일은 같은 묶음의 원본 결과를 따르고, 확인되지 않은 것만 이름 접두사로 한 건씩 다시 확인)
+ * - 유예 기간(app.upload-gc.grace)보다 새 파일은 보지 않음 (커밋 전 업로드, 만드는 중인 썸네일)
+ * - 내용 주소 파일은 FileStorageService.purgeIfUnreferenced 가 행 잠금 아래에서 다시 확인하고 지움
+ * - 초당 파일 수를 제한해서 운영 중에도 디스크/DB를 몰아 쓰지 않음, dry-run 이면 보고만
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "local", matchIfMissing = true)
+public class UploadGarbageCollector {
+
+    private static final Pattern CONTENT_NAME = Pattern.compile("^([0-9a-f]{64})(_w\\d+)?\\.[a-z]+$");
+    // 예전 UUID 파일과 그 썸네일: {base}.ext, {base}_w400.jpg
+    private static final Pattern LEGACY_NAME = Pattern.compile("^(.+?)(_w\\d+)?\\.[^.]+$");
+    private static final Pattern TEMP_NAME = Pattern.compile("^\\.(upload|thumb)-.*\\.tmp$");
+    private static final Pattern SHARD_NAME = Pattern.compile("^[0-9a-z]{2}$");
+    private static final int CHUNK = 500;
+
+    private final LocalStorageBackend storage;
+    private final StoredFileRepository storedFileRepository;
+    private final PostImageRepository postImageRepository;
+    private final FileStorageService fileStorageService;
+
+    private final boolean enabled;
+    private final boolean dryRun;
+    private final Duration grace;
+    private final Duration interval;
+    private final int filesPerSecond;
+
+    private final LongAdder deletedOrphans = new LongAdder();
+    private final LongAdder deletedTemps = new LongAdder();
+    private final LongAdder reclaimedBytes = new LongAdder();
+
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public UploadGarbageCollector(LocalStorageBackend storage,
+                                  StoredFileRepository storedFileRepository,
+                                  PostImageRepository postImageRepository,
+                                  FileStorageService fileStorageService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.upload-gc.enabled:true}") boolean enabled,
+                                  @Value("${app.upload-gc.dry-run:false}") boolean dryRun,
+                                  @Value("${app.upload-gc.grace:24h}") Duration grace,
+                                  @Value("${app.upload-gc.interval:24h}") Duration interval,
+                                  @Value("${app.upload-gc.files-per-second:200}") int filesPerSecond) {
+        this.storage = storage;
+        this.storedFileRepository = storedFileRepository;
+        this.postImageRepository = postImageRepository;
+        this.fileStorageService = fileStorageService;
+        this.enabled = enabled;
+        this.dryRun = dryRun;
+        this.grace = grace;
+        this.interval = interval;
+        this.filesPerSecond = Math.max(1, filesPerSecond);
+
+        FunctionCounter.builder("upload.gc.deleted", deletedOrphans, LongAdder::sum)
+                .tag("kind", "orphan").register(meterRegistry);
+        FunctionCounter.builder("upload.gc.deleted", deletedTemps, LongAdder::sum)
+                .tag("kind", "temp").register(meterRegistry);
+        FunctionCounter.builder("upload.gc.reclaimed", reclaimedBytes, LongAdder::sum)
+                .baseUnit("bytes").register(meterRegistry);
+    }
+
+    // 한 번 돌린 결과 (dry-run 이면 orphans 만 세고 deleted 는 0)
+    public record Report(long scanned, long young, long live, long orphans, long deleted,
+                         long reclaimedBytes, long tempDeleted) {
+    }
+
+    // ✅ 기동 후 interval 마다 (첫 실행도 interval 뒤: 기동 직후 부하와 겹치지 않게)
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) return;
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "upload-gc");
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        });
+        long delay = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                collect();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | RuntimeException e) {
+                log.warn("업로드 정리 중단", e);
+            }
+        }, delay, delay, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduler != null) scheduler.shutdownNow();
+    }
+
+    public Report collect() throws IOException, InterruptedException {
+        Run run = new Run(Instant.now().minus(grace));
+        Path root = storage.root();
+        if (!Files.isDirectory(root)) return run.report();
+
+        // 1) 루트: 샤딩 전 평평한 파일 + 임시 파일 (파일이 많을 수 있으므로 정렬 없이 흘려 읽음)
+        List<Path> shards = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(root)) {
+            for (Path entry : entries) {
+                if (Files.isDirectory(entry)) {
+                    if (SHARD_NAME.matcher(entry.getFileName().toString()).matches()) shards.add(entry);
+                } else {
+                    run.offer(entry);
+                }
+            }
+        }
+        run.flush();
+
+        // 2) 샤드 폴더 ab/cd (폴더마다 파일 수가 적으므로 이름순으로)
+        shards.sort(null);
+        for (Path first : shards) {
+            for (Path leaf : sortedDirectories(first)) {
+                for (Path file : sortedFiles(leaf)) {
+                    run.offer(file);
+                }
+            }
+        }
+        run.flush();
+
+        Report report = run.report();
+        log.info("업로드 정리{}: 검사 {}개, 유예 {}개, 사용 중 {}개, 고아 {}개, 삭제 {}개 ({} bytes), 임시 파일 {}개",
+                dryRun ? "(dry-run)" : "", report.scanned(), report.young(), report.live(), report.orphans(),
+                report.deleted(), report.reclaimedBytes(), report.tempDeleted());
+        return report;
+    }
+
+    private static List<Path> sortedDirectories(Path dir) throws IOException {
+        try (var s = Files.list(dir)) {
+            return s.filter(p -> Files.isDirectory(p) && SHARD_NAME.matcher(p.getFileName().toString()).matches())
+                    .sorted().toList();
+        }
+    }
+
+    private static List<Path> sortedFiles(Path dir) throws IOException {
+        try (var s = Files.list(dir)) {
+            return s.filter(Files::isRegularFile).sorted().toList();
+        }
+    }
+
+    private record Candidate(Path path, String key, long size) {
+    }
+
+    // 한 번 돌리는 동안의 상태 (묶음 + 집계 + 속도 제한)
+    private final class Run {
+        private final Instant cutoff;
+        private final List<Candidate> chunk = new ArrayList<>(CHUNK);
+        private final long startedAt = System.nanoTime();
+        private long scanned, young, live, orphans, deleted, reclaimed, tempDeleted;
+
+        Run(Instant cutoff) {
+            this.cutoff = cutoff;
+        }
+
+        void offer(Path file) throws IOException, InterruptedException {
+            BasicFileAttributes attrs;
+            try {
+                attrs = Files.readAttributes(file, BasicFileAttributes.class);
+            } catch (IOException e) {
+                return; // 그 사이 지워짐
+            }
+            if (!attrs.isRegularFile()) return;
+            scanned++;
+
+            String name = file.getFileName().toString();
+            if (attrs.lastModifiedTime().toInstant().isAfter(cutoff)) {
+                young++;
+            } else if (TEMP_NAME.matcher(name).matches()) {
+                // 실패한 업로드/썸네일이 남긴 임시 파일 (이름이 점으로 시작해서 서빙되지 않음)
+                if (!dryRun && Files.deleteIfExists(file)) {
+                    tempDeleted++;
+                    reclaimed += attrs.size();
+                    deletedTemps.increment();
+                    reclaimedBytes.add(attrs.size());
+                }
+            } else if (StorageBackend.validKey(name) != null) {
+                chunk.add(new Candidate(file, name, attrs.size()));
+            }
+            throttle();
+            if (chunk.size() >= CHUNK) flush();
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) return;
+
+            // 내용 주소 파일: stored_files 행이 있으면 사용 중 (기본키 IN 한 번)
+            Set<String> shas = chunk.stream()
+                    .map(c -> CONTENT_NAME.matcher(c.key()))
+                    .filter(Matcher::matches)
+                    .map(m -> m.group(1))
+                    .collect(Collectors.toSet());
+            Set<String> referenced = shas.isEmpty() ? Set.of()
+                    : storedFileRepository.findAllById(shas).stream()
+                    .map(StoredFileEntity::getSha256)
+                    .collect(Collectors.toSet());
+
+            // 예전 UUID 원본: 묶음 안 원본 URL 을 image_url IN 한 번으로 (썸네일은 같은 base 원본 결과를 따름)
+            Map<String, List<String>> legacyOriginals = new HashMap<>();
+            for (Candidate c : chunk) {
+                if (CONTENT_NAME.matcher(c.key()).matches()) continue;
+                Matcher legacy = LEGACY_NAME.matcher(c.key());
+                if (legacy.matches() && legacy.group(2) == null) {
+                    legacyOriginals.computeIfAbsent(legacy.group(1), k -> new ArrayList<>()).add(storage.urlOf(c.key()));
+                }
+            }
+            Set<String> liveLegacyUrls = legacyOriginals.isEmpty() ? Set.of()
+                    : new HashSet<>(postImageRepository.findImageUrlsIn(
+                    legacyOriginals.values().stream().flatMap(List::stream).toList()));
+            // base → 사용 중 여부 (IN 으로 확인 안 된 base 만 접두사 조회, 같은 base 는 한 번만)
+            Map<String, Boolean> legacyLive = new HashMap<>();
+
+            for (Candidate c : chunk) {
+                Matcher content = CONTENT_NAME.matcher(c.key());
+                if (content.matches()) {
+                    if (referenced.contains(content.group(1))) {
+                        live++;
+                    } else {
+                        orphan(c, () -> fileStorageService.purgeIfUnreferenced(content.group(1), c.key()));
+                    }
+                    continue;
+                }
+
+                Matcher legacy = LEGACY_NAME.matcher(c.key());
+                String base = legacy.matches() ? legacy.group(1) : c.key();
+                boolean inUse = legacyLive.computeIfAbsent(base, b ->
+                        legacyOriginals.getOrDefault(b, List.of()).stream().anyMatch(liveLegacyUrls::contains)
+                                // 원본 파일이 묶음에 없거나(다른 묶음/이미 없음) 다른 확장자로 참조될 수 있으므로 접두사로 확인
+                                || postImageRepository.existsByImageUrlStartingWith(storage.urlOf(b) + "."));
+                if (inUse) {
+                    live++;
+                } else {
+                    orphan(c, () -> {
+                        try {
+                            return Files.deleteIfExists(c.path());
+                        } catch (IOException e) {
+                            return false;
+                        }
+                    });
+                }
+            }
+            chunk.clear();
+        }
+
+        private void orphan(Candidate c, BooleanSupplier delete) {
+            orphans++;
+            if (dryRun) {
+                log.debug("업로드 정리 대상(dry-run): {} ({} bytes)", c.key(), c.size());
+                return;
+            }
+            if (delete.getAsBoolean()) {
+                deleted++;
+                reclaimed += c.size();
+                deletedOrphans.increment();
+                reclaimedBytes.add(c.size());
+            }
+        }
+
+        // 초당 filesPerSecond 개를 넘지 않도록 (앞서 나간 만큼만 잠깐 쉼)
+        private void throttle() throws InterruptedException {
+            long expectedNanos = scanned * 1_000_000_000L / filesPerSecond;
+            long aheadNanos = expectedNanos - (System.nanoTime() - startedAt);
+            if (aheadNanos > 1_000_000) {
+                TimeUnit.NANOSECONDS.sleep(aheadNanos);
+            }
+        }
+
+        Report report() {
+            return new Report(scanned, young, live, orphans, deleted, reclaimed, tempDeleted);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+-- FULLTEXT 검색 엔진(app.search.engine=fulltext)용 인덱스
+-- search_title / search_body 컬럼은 PostEntity(ddl-auto)가 만들고, 값은 저장 시 SearchAnalyzer 토큰으로 채워짐
+CREATE FULLTEXT INDEX IF NOT EXISTS ft_posts_search ON posts (search_title, search_body);
+CREATE FULLTEXT INDEX IF NOT EXISTS ft_posts_search_title ON posts (search_title);
+CREATE FULLTEXT INDEX IF NOT EXISTS ft_posts_search_body ON posts (search_body);
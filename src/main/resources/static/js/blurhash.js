@@ -0,0 +1,108 @@
+// ========================================
+// 이미지 플레이스홀더 (서버가 내려준 대표색 + blurhash)
+// <img data-blurhash="..." data-color="#rrggbb"> 가 로드되기 전까지 배경으로 흐린 미리보기를 깔고,
+// 로드되면 배경을 치웁니다. blurhash 디코딩은 32x32 캔버스 한 장 (https://blurha.sh 규격)
+// ========================================
+(function () {
+    const BASE83 = '0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~';
+    const SIZE = 32;
+    const cache = new Map();
+
+    function decode83(str) {
+        let value = 0;
+        for (const c of str) value = value * 83 + BASE83.indexOf(c);
+        return value;
+    }
+
+    function srgbToLinear(v) {
+        v /= 255;
+        return v <= 0.04045 ? v / 12.92 : Math.pow((v + 0.055) / 1.055, 2.4);
+    }
+
+    function linearToSrgb(v) {
+        v = Math.max(0, Math.min(1, v));
+        return v <= 0.0031308
+            ? Math.round(v * 12.92 * 255)
+            : Math.round((1.055 * Math.pow(v, 1 / 2.4) - 0.055) * 255);
+    }
+
+    function signPow(v, exp) {
+        return Math.sign(v) * Math.pow(Math.abs(v), exp);
+    }
+
+    function toDataUrl(hash) {
+        if (cache.has(hash)) return cache.get(hash);
+
+        const sizeFlag = decode83(hash[0]);
+        const cx = (sizeFlag % 9) + 1;
+        const cy = Math.floor(sizeFlag / 9) + 1;
+        if (hash.length !== 4 + 2 * cx * cy) return null;
+
+        const maxValue = (decode83(hash[1]) + 1) / 166;
+        const colors = [];
+        const dc = decode83(hash.substring(2, 6));
+        colors.push([srgbToLinear(dc >> 16), srgbToLinear((dc >> 8) & 255), srgbToLinear(dc & 255)]);
+        for (let i = 1; i < cx * cy; i++) {
+            const ac = decode83(hash.substring(4 + i * 2, 6 + i * 2));
+            colors.push([
+                signPow((Math.floor(ac / (19 * 19)) - 9) / 9, 2) * maxValue,
+                signPow((Math.floor(ac / 19) % 19 - 9) / 9, 2) * maxValue,
+                signPow((ac % 19 - 9) / 9, 2) * maxValue
+            ]);
+        }
+
+        const canvas = document.createElement('canvas');
+        canvas.width = SIZE;
+        canvas.height = SIZE;
+        const ctx = canvas.getContext('2d');
+        const pixels = ctx.createImageData(SIZE, SIZE);
+        for (let y = 0; y < SIZE; y++) {
+            for (let x = 0; x < SIZE; x++) {
+                let r = 0, g = 0, b = 0;
+                for (let j = 0; j < cy; j++) {
+                    for (let i = 0; i < cx; i++) {
+                        const basis = Math.cos(Math.PI * x * i / SIZE) * Math.cos(Math.PI * y * j / SIZE);
+                        const color = colors[i + j * cx];
+                        r += color[0] * basis;
+                        g += color[1] * basis;
+                        b += color[2] * basis;
+                    }
+                }
+                const at = 4 * (x + y * SIZE);
+                pixels.data[at] = linearToSrgb(r);
+                pixels.data[at + 1] = linearToSrgb(g);
+                pixels.data[at + 2] = linearToSrgb(b);
+                pixels.data[at + 3] = 255;
+            }
+        }
+        ctx.putImageData(pixels, 0, 0);
+
+        const url = canvas.toDataURL();
+        cache.set(hash, url);
+        return url;
+    }
+
+    function clear(img) {
+        img.style.backgroundImage = '';
+        img.style.backgroundColor = '';
+    }
+
+    // root 아래 아직 처리 안 한 이미지에 플레이스홀더 적용 (무한 스크롤로 붙인 카드도 다시 호출)
+    window.applyImagePlaceholders = function (root) {
+        (root || document).querySelectorAll('img[data-blurhash], img[data-color]').forEach(img => {
+            if (img.dataset.placeholder === 'done') return;
+            img.dataset.placeholder = 'done';
+            if (img.complete && img.naturalWidth > 0) return;
+
+            if (img.dataset.color) img.style.backgroundColor = img.dataset.color;
+            const url = img.dataset.blurhash ? toDataUrl(img.dataset.blurhash) : null;
+            if (url) {
+                img.style.backgroundImage = `url(${url})`;
+                img.style.backgroundSize = 'cover';
+            }
+            img.addEventListener('load', () => clear(img), { once: true });
+        });
+    };
+
+    document.addEventListener('DOMContentLoaded', () => window.applyImagePlaceholders(document));
+})();
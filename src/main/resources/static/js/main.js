@@ -115,7 +115,9 @@ function optimizeLayout() {
 // 4. 무한 스크롤 (선택사항)
 // ========================================
 let currentPage = 1;
-let hasMore = true;
+// 첫 페이지는 서버가 그려서 내려주므로 다음 커서/hasNext 도 index.html 이 심어준 값에서 시작
+let hasMore = (typeof window.__HOME_HAS_NEXT__ === 'boolean') ? window.__HOME_HAS_NEXT__ : true;
+let nextCursor = window.__HOME_NEXT_CURSOR__ || null; // 서버가 내려준 다음 커서 (/api/posts 커서 모드)
 
 function initInfiniteScroll() {
     window.addEventListener('scroll', function() {
@@ -130,22 +132,24 @@ function initInfiniteScroll() {
 }
 
 function loadMorePosts() {
-    if (isLoading) return;
+    // 커서 없이 요청하면 첫 페이지를 다시 받아 중복으로 붙음
+    if (isLoading || !hasMore || !nextCursor) return;
 
     isLoading = true;
     showLoadingSpinner();
 
     // Axios 또는 fetch를 사용하여 서버에서 데이터 가져오기
     // 예시:
-    fetch(`/api/posts?page=${currentPage + 1}&category=${currentCategory}`)
+    const category = currentCategory !== '전체' ? currentCategory : '';
+    fetch(`/api/posts?cursor=${encodeURIComponent(nextCursor || '')}&category=${encodeURIComponent(category)}`)
         .then(response => response.json())
         .then(data => {
-            if (data.posts && data.posts.length > 0) {
-                appendPosts(data.posts);
+            if (data.items && data.items.length > 0) {
+                appendPosts(data.items);
                 currentPage++;
-            } else {
-                hasMore = false;
             }
+            nextCursor = data.nextCursor || null;
+            hasMore = !!data.hasNext;
         })
         .catch(error => {
             console.error('Error loading posts:', error);
@@ -173,9 +177,11 @@ function createPostElement(post) {
     const div = document.createElement('div');
     div.className = 'masonry-item';
 
-    const imageHtml = post.images && post.images.length > 0
+    // 카드 API(HomePostDto)는 imageUrl, 예전 응답은 images[]
+    const imageUrl = post.imageUrl || (post.images && post.images.length > 0 ? post.images[0] : null);
+    const imageHtml = imageUrl
         ? `<div class="post-image">
-               <img src="${post.images[0]}" alt="${post.title}">
+               <img src="${imageUrl}" alt="${post.title}">
            </div>`
         : '';
 
@@ -221,6 +227,7 @@ function hideLoadingSpinner() {
 function filterByCategory(category) {
     currentCategory = category;
     currentPage = 1;
+    nextCursor = null;
     hasMore = true;
 
     // 서버에서 필터링된 데이터 가져오기
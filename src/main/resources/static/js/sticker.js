@@ -4,6 +4,8 @@
 (function() {
     let categories = [];
     let stickersInPalette = [];
+    let paletteAtlas = null; // 현재 카테고리 아틀라스 (이미지 1장 + 스티커별 좌표)
+    const PALETTE_CELL = 48; // 팔레트 칸 표시 크기 (w-12 h-12)
     let stickers = [];
     let isDecorating = false;
     let selectedSticker = null;
@@ -243,8 +245,10 @@
 
     async function fetchStickersByCategory(categoryId) {
         try {
-            const response = await axios.get(`/api/stickers/categories/${categoryId}`);
-            stickersInPalette = response.data;
+            // ✅ 카테고리당 좌표 JSON 1번 + 아틀라스 이미지 1장 (스티커마다 이미지 요청하지 않음)
+            const response = await axios.get(`/api/stickers/categories/${categoryId}/atlas`);
+            paletteAtlas = response.data;
+            stickersInPalette = paletteAtlas.sprites || [];
             renderPalette();
         } catch (err) { console.error("스티커 로드 실패"); }
     }
@@ -273,7 +277,16 @@
         stickersInPalette.forEach((sticker) => {
             const div = document.createElement('div');
             div.className = 'palette-item cursor-grab p-2 hover:bg-pink-50 rounded-xl flex items-center justify-center bg-transparent';
-            div.innerHTML = `<img src="${sticker.stickerImageUrl}" onerror="window.handleStickerError(this)" class="w-12 h-12 object-contain pointer-events-none bg-transparent" style="background:transparent !important;">`;
+            if (paletteAtlas?.imageUrl && sticker.x != null) {
+                // 아틀라스에서 이 스티커 칸만 보이도록 (96px 칸 → 48px 표시)
+                const ratio = PALETTE_CELL / paletteAtlas.cellSize;
+                div.innerHTML = `<div class="w-12 h-12 pointer-events-none" style="background-image:url('${paletteAtlas.imageUrl}'); background-repeat:no-repeat;
+                     background-size:${paletteAtlas.width * ratio}px ${paletteAtlas.height * ratio}px;
+                     background-position:-${sticker.x * ratio}px -${sticker.y * ratio}px;"></div>`;
+            } else {
+                // 아틀라스에 못 들어간 스티커는 개별 이미지
+                div.innerHTML = `<img src="${sticker.stickerImageUrl}" onerror="window.handleStickerError(this)" class="w-12 h-12 object-contain pointer-events-none bg-transparent" style="background:transparent !important;">`;
+            }
             div.draggable = true;
             div.addEventListener('dragstart', (e) => {
                 e.dataTransfer.setData('imgUrl', sticker.stickerImageUrl);
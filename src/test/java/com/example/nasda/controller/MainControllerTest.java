@@ -0,0 +1,36 @@
+package com.example.nasda.controller;
+
+import com.example.nasda.service.AuthUserService;
+import com.example.nasda.service.ContentVersionService;
+import com.example.nasda.service.PostService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class MainControllerTest {
+
+    private final PostService postService = mock(PostService.class);
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(
+            new MainController(postService, mock(AuthUserService.class), mock(ContentVersionService.class))).build();
+
+    @Test
+    @DisplayName("깨진 커서는 500 이 아니라 400")
+    void malformed_cursor_is_bad_request() throws Exception {
+        when(postService.getHomeFeed(isNull(), eq("not-a-cursor"), anyInt()))
+                .thenThrow(new IllegalArgumentException("잘못된 커서입니다: not-a-cursor"));
+
+        mockMvc.perform(get("/api/posts").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("잘못된 커서입니다: not-a-cursor"));
+    }
+}
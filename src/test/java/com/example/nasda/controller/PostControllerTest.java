@@ -0,0 +1,120 @@
+package com.example.nasda.controller;
+
+import com.example.nasda.domain.PostCardEntity;
+import com.example.nasda.repository.CommentRepository;
+import com.example.nasda.repository.PostCardRepository;
+import com.example.nasda.repository.sticker.PostDecorationRepository;
+import com.example.nasda.service.AuthUserService;
+import com.example.nasda.service.CategoryService;
+import com.example.nasda.service.CommentService;
+import com.example.nasda.service.ContentVersionService;
+import com.example.nasda.service.HomeFeedCache;
+import com.example.nasda.service.PostImageService;
+import com.example.nasda.service.PostPageService;
+import com.example.nasda.service.PostService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 게시글 상세 조건부 GET: 같은 버전이면 304, 보는 사람/닉네임/댓글이 바뀌면 다시 200
+class PostControllerTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    private final AuthUserService authUserService = mock(AuthUserService.class);
+    private final PostPageService postPageService = mock(PostPageService.class);
+    private final PostCardRepository postCardRepository = mock(PostCardRepository.class);
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final ContentVersionService contentVersionService = new ContentVersionService(
+            new HomeFeedCache(3, 256, new SimpleMeterRegistry()), postCardRepository, commentRepository,
+            mock(PostDecorationRepository.class));
+
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new PostController(
+            mock(PostService.class), mock(CategoryService.class), mock(CommentService.class),
+            mock(PostImageService.class), authUserService, contentVersionService, postPageService)).build();
+
+    @BeforeEach
+    void setUp() {
+        when(postCardRepository.findById(1)).thenReturn(Optional.of(PostCardEntity.builder()
+                .postId(1).title("제목").nickname("작성자").createdAt(T0).build()));
+        when(commentRepository.findLastUpdatedAtByPostId(1)).thenReturn(T0.plusMinutes(1));
+        when(postPageService.load(eq(1), any(), anyInt(), anyInt()))
+                .thenReturn(new PostPageService.PostPage(null, Page.empty(), "보는사람"));
+        when(authUserService.getLoginIdOrNull()).thenReturn("alice");
+    }
+
+    private String firstEtag() throws Exception {
+        String etag = mockMvc.perform(get("/posts/1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+        return etag;
+    }
+
+    @Test
+    @DisplayName("같은 버전이면 본문을 만들지 않고 304")
+    void not_modified() throws Exception {
+        String etag = firstEtag();
+
+        mockMvc.perform(get("/posts/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(postPageService, times(1)).load(eq(1), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("다른 사람(또는 로그아웃)이 같은 ETag 를 보내면 200")
+    void viewer_identity() throws Exception {
+        String etag = firstEtag();
+
+        when(authUserService.getLoginIdOrNull()).thenReturn("bob");
+        mockMvc.perform(get("/posts/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+
+        when(authUserService.getLoginIdOrNull()).thenReturn(null);
+        mockMvc.perform(get("/posts/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("닉네임 변경(댓글 작성자/보는 사람 포함) 뒤에는 200")
+    void nickname_change() throws Exception {
+        String etag = firstEtag();
+
+        contentVersionService.authorsChanged();
+
+        mockMvc.perform(get("/posts/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("댓글 수정 뒤에는 200, 다른 댓글 페이지도 200")
+    void comment_change_and_page() throws Exception {
+        String etag = firstEtag();
+
+        mockMvc.perform(get("/posts/1").param("page", "1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+
+        when(commentRepository.findLastUpdatedAtByPostId(1)).thenReturn(T0.plusMinutes(2));
+        mockMvc.perform(get("/posts/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+}
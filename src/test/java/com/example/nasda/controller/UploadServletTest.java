@@ -0,0 +1,116 @@
+package com.example.nasda.controller;
+
+import com.example.nasda.repository.StoredFileRepository;
+import com.example.nasda.service.FileStorageService;
+import com.example.nasda.service.storage.LocalStorageBackend;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class UploadServletTest {
+
+    private static final String SHA = "a".repeat(64);
+
+    @TempDir
+    Path uploadDir;
+
+    private UploadServlet servlet;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        FileStorageService storage = new FileStorageService(new LocalStorageBackend(uploadDir.toString()),
+                mock(StoredFileRepository.class), mock(PlatformTransactionManager.class));
+        servlet = new UploadServlet(storage);
+
+        content = new byte[100_000];
+        Arrays.fill(content, (byte) 7);
+        content[0] = 1;
+        content[99_999] = 9;
+        // 해시 이름은 샤딩 폴더, 그 밖의 예전 파일은 평평한 위치에서도 서빙
+        Files.createDirectories(uploadDir.resolve("aa/aa"));
+        Files.write(uploadDir.resolve("aa/aa/" + SHA + ".png"), content);
+        Files.write(uploadDir.resolve("notes.txt"), new byte[]{1, 2, 3});
+    }
+
+    private MockHttpServletResponse get(String name, String... headers) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/uploads/" + name);
+        request.setServletPath("/uploads");
+        request.setPathInfo("/" + name);
+        for (int i = 0; i < headers.length; i += 2) {
+            request.addHeader(headers[i], headers[i + 1]);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        servlet.service(request, response);
+        return response;
+    }
+
+    @Test
+    @DisplayName("해시 이름 파일: immutable 캐시 + 해시 ETag, 같은 ETag면 304")
+    void immutable_and_etag() throws Exception {
+        MockHttpServletResponse response = get(SHA + ".png");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader("Cache-Control")).contains("immutable").contains("max-age=31536000");
+        assertThat(response.getHeader("ETag")).isEqualTo("\"" + SHA + "\"");
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+
+        MockHttpServletResponse cached = get(SHA + ".png", "If-None-Match", "\"" + SHA + "\"");
+        assertThat(cached.getStatus()).isEqualTo(304);
+        assertThat(cached.getContentAsByteArray()).isEmpty();
+
+        // 해시/UUID 이름이 아니면 매번 재검증
+        assertThat(get("notes.txt").getHeader("Cache-Control")).contains("no-cache");
+    }
+
+    @Test
+    @DisplayName("단일 Range는 206, 범위 밖은 416, If-Range가 다르면 전체")
+    void byte_ranges() throws Exception {
+        MockHttpServletResponse tail = get(SHA + ".png", "Range", "bytes=-10");
+        assertThat(tail.getStatus()).isEqualTo(206);
+        assertThat(tail.getHeader("Content-Range")).isEqualTo("bytes 99990-99999/100000");
+        assertThat(tail.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 99_990, 100_000));
+
+        MockHttpServletResponse head = get(SHA + ".png", "Range", "bytes=0-1");
+        assertThat(head.getContentAsByteArray()).containsExactly(1, 7);
+
+        assertThat(get(SHA + ".png", "Range", "bytes=100000-").getStatus()).isEqualTo(416);
+        assertThat(get(SHA + ".png", "Range", "bytes=0-1", "If-Range", "\"other\"").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("sendfile을 지원하면 본문 대신 파일 구간만 넘김")
+    void sendfile() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/uploads/" + SHA + ".png");
+        request.setPathInfo("/" + SHA + ".png");
+        request.setAttribute(UploadServlet.SENDFILE_SUPPORTED, Boolean.TRUE);
+        request.addHeader("Range", "bytes=100-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        servlet.service(request, response);
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getContentLengthLong()).isEqualTo(100_000 - 100);
+        assertThat(request.getAttribute(UploadServlet.SENDFILE_START)).isEqualTo(100L);
+        assertThat(request.getAttribute(UploadServlet.SENDFILE_END)).isEqualTo(100_000L);
+    }
+
+    @Test
+    @DisplayName("폴더 밖 경로와 없는 파일은 404")
+    void not_found() throws Exception {
+        assertThat(get("../secret.png").getStatus()).isEqualTo(404);
+        assertThat(get("missing.png").getStatus()).isEqualTo(404);
+    }
+}
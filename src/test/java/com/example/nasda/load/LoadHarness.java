@@ -0,0 +1,151 @@
+package com.example.nasda.load;
+
+import com.example.nasda.NasdaApplication;
+import com.example.nasda.domain.UserEntity;
+import com.example.nasda.domain.UserRepository;
+import com.example.nasda.domain.UserRole;
+import com.example.nasda.domain.UserStatus;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 부하 테스트 공통: 임의 포트로 앱 기동 + 로그인 + 동시 요청으로 처리량/p50/p99 측정.
+ * 각 테스트는 기동 속성과 시나리오(URL)만 정합니다.
+ * 피드/검색은 로그인 사용자 전용이므로 전용 계정(loadtest)으로 로그인한 세션 쿠키로 요청합니다.
+ */
+final class LoadHarness {
+
+    static final int CONCURRENCY = 200;
+    static final int REQUESTS = 4000;
+
+    private static final String LOGIN_ID = "loadtest";
+    private static final String PASSWORD = "loadtest-pw";
+
+    private LoadHarness() {
+    }
+
+    // 실제 MariaDB(application.properties) + 테스트별 속성으로 기동
+    static ConfigurableApplicationContext boot(String... properties) {
+        List<String> all = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.sql.init.mode=never",
+                "spring.jpa.properties.hibernate.show_sql=false",
+                "logging.level.com.example=info",
+                "logging.level.org.hibernate.type.descriptor.sql=info"));
+        all.addAll(Arrays.asList(properties));
+        return new SpringApplicationBuilder(NasdaApplication.class)
+                .properties(all.toArray(String[]::new))
+                .run();
+    }
+
+    static String baseUrl(ConfigurableApplicationContext ctx) {
+        int port = ctx.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        return "http://localhost:" + port;
+    }
+
+    // 부하 테스트 계정을 (없으면 만들고) 실제 로그인 화면으로 로그인 → 세션 쿠키 (JSESSIONID=...)
+    static String login(ConfigurableApplicationContext ctx) throws Exception {
+        UserRepository users = ctx.getBean(UserRepository.class);
+        PasswordEncoder encoder = ctx.getBean(PasswordEncoder.class);
+        UserEntity user = users.findByLoginId(LOGIN_ID).orElse(null);
+        if (user == null) {
+            users.save(UserEntity.builder()
+                    .loginId(LOGIN_ID)
+                    .password(encoder.encode(PASSWORD))
+                    .email(LOGIN_ID + "@load.test")
+                    .nickname("부하테스트")
+                    .role(UserRole.USER)
+                    .status(UserStatus.ACTIVE)
+                    .build());
+        } else if (!encoder.matches(PASSWORD, user.getPassword())) {
+            user.setPassword(encoder.encode(PASSWORD));
+            users.save(user);
+        }
+
+        String form = "username=" + URLEncoder.encode(LOGIN_ID, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(PASSWORD, StandardCharsets.UTF_8);
+        HttpResponse<Void> res = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create(baseUrl(ctx) + "/user/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        // 성공하면 "/" 로 리다이렉트, 실패하면 로그인 화면(200)을 다시 그림
+        if (res.statusCode() != 302) {
+            throw new IllegalStateException("부하 테스트 계정 로그인 실패: " + res.statusCode());
+        }
+        return res.headers().allValues("Set-Cookie").stream()
+                .filter(c -> c.startsWith("JSESSIONID="))
+                .map(c -> c.substring(0, c.indexOf(';') > 0 ? c.indexOf(';') : c.length()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("로그인 세션 쿠키가 없습니다."));
+    }
+
+    // 같은 GET 을 total 번, 동시에 CONCURRENCY 개까지
+    // (로그인 화면으로 튕기는 3xx 도 측정 대상이 아니므로 4xx/5xx/예외와 함께 오류로 셈)
+    static Result run(String url, String sessionCookie, int total) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .header("Cookie", sessionCookie)
+                .GET()
+                .build();
+
+        long[] latencies = new long[total];
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < total; i++) {
+                int idx = i;
+                inFlight.acquire();
+                clients.submit(() -> {
+                    long t0 = System.nanoTime();
+                    try {
+                        HttpResponse<Void> res = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (res.statusCode() >= 300) errors.incrementAndGet();
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[idx] = System.nanoTime() - t0;
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        double throughput = total / (elapsed / 1_000_000_000.0);
+        double p50 = latencies[(int) (total * 0.50)] / 1_000_000.0;
+        double p99 = latencies[Math.min(total - 1, (int) (total * 0.99))] / 1_000_000.0;
+        return new Result(throughput, p50, p99, errors.get());
+    }
+
+    record Result(double rps, double p50Ms, double p99Ms, int errors) {
+        @Override
+        public String toString() {
+            return String.format("%.0f req/s, p50 %.1fms, p99 %.1fms, errors %d", rps, p50Ms, p99Ms, errors);
+        }
+    }
+}
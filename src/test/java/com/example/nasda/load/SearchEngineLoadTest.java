@@ -0,0 +1,48 @@
+package com.example.nasda.load;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+import static com.example.nasda.load.LoadHarness.REQUESTS;
+import static com.example.nasda.load.LoadHarness.run;
+
+/**
+ * 검색 엔진 비교: 프로세스 내 역색인(memory) vs MariaDB FULLTEXT(fulltext).
+ * 같은 DB 데이터로 본문/제목 검색 처리량과 p99를 잽니다. ./gradlew loadTest 로만 실행되고,
+ * 결과는 로그의 [LOAD] 줄을 비교하세요. (fulltext 첫 실행은 인덱스 생성/토큰 채우기가 포함됨)
+ */
+@Log4j2
+@Tag("load")
+public class SearchEngineLoadTest {
+
+    @ParameterizedTest(name = "engine={0}")
+    @ValueSource(strings = {"memory", "fulltext"})
+    void search(String engine) throws Exception {
+        try (ConfigurableApplicationContext ctx = LoadHarness.boot("app.search.engine=" + engine)) {
+
+            String base = LoadHarness.baseUrl(ctx) + "/api/search?size=30&page=0";
+            String session = LoadHarness.login(ctx);
+
+            String content = base + "&type=content&keyword=" + URLEncoder.encode("여행", StandardCharsets.UTF_8);
+            String title = base + "&type=title&keyword=" + URLEncoder.encode("a", StandardCharsets.UTF_8);
+
+            // 워밍업
+            run(content, session, 200);
+
+            LoadHarness.Result byContent = run(content, session, REQUESTS);
+            LoadHarness.Result byTitle = run(title, session, REQUESTS);
+
+            log.info("[LOAD] engine={} | content {} | title {}", engine, byContent, byTitle);
+
+            Assertions.assertEquals(0, byContent.errors());
+            Assertions.assertEquals(0, byTitle.errors());
+        }
+    }
+}
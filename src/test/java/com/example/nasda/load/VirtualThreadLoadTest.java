@@ -0,0 +1,55 @@
+package com.example.nasda.load;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+import static com.example.nasda.load.LoadHarness.REQUESTS;
+import static com.example.nasda.load.LoadHarness.run;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 요청 처리 비교 (Hikari 풀 크기별).
+ * 실제 MariaDB(application.properties)를 사용하므로 기본 test 태스크에서는 제외되고
+ * ./gradlew loadTest 로만 실행됩니다. 결과는 로그의 [LOAD] 줄을 비교하세요.
+ */
+@Log4j2
+@Tag("load")
+public class VirtualThreadLoadTest {
+
+    @ParameterizedTest(name = "virtual={0}, hikariPool={1}")
+    @CsvSource({
+            "false, 5",
+            "true,  5",
+            "false, 20",
+            "true,  20"
+    })
+    void feedAndSearch(boolean virtual, int poolSize) throws Exception {
+        try (ConfigurableApplicationContext ctx = LoadHarness.boot(
+                "spring.threads.virtual.enabled=" + virtual,
+                "spring.datasource.hikari.maximum-pool-size=" + poolSize)) {
+
+            String base = LoadHarness.baseUrl(ctx);
+            String session = LoadHarness.login(ctx);
+
+            // 워밍업
+            run(base + "/api/posts?cursor=&size=12", session, 200);
+
+            LoadHarness.Result feed = run(base + "/api/posts?cursor=&size=12", session, REQUESTS);
+            LoadHarness.Result search = run(base + "/search?type=content&keyword="
+                    + URLEncoder.encode("a", StandardCharsets.UTF_8), session, REQUESTS);
+
+            // 검색은 설정된 엔진(app.search.engine)으로 처리되므로 라벨에 함께 기록
+            String engine = ctx.getEnvironment().getProperty("app.search.engine", "memory");
+            log.info("[LOAD] virtual={} pool={} | feed {} | search({}) {}", virtual, poolSize, feed, engine, search);
+
+            Assertions.assertEquals(0, feed.errors());
+            Assertions.assertEquals(0, search.errors());
+        }
+    }
+}
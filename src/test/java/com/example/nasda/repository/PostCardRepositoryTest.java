@@ -0,0 +1,61 @@
+package com.example.nasda.repository;
+
+import com.example.nasda.domain.*;
+import com.example.nasda.dto.post.HomePostDto;
+import com.example.nasda.service.PostCardService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+public class PostCardRepositoryTest {
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private PostImageRepository postImageRepository;
+    @Autowired private PostCardRepository postCardRepository;
+    @Autowired private PostCardService postCardService;
+
+    @Test
+    @DisplayName("sort_order 가 같은 이미지가 둘이어도 카드는 한 장, 대표 이미지는 먼저 저장된 것")
+    void representative_image_tie() {
+        String uniqueId = String.valueOf(System.nanoTime());
+        UserEntity user = userRepository.save(UserEntity.builder()
+                .loginId("card_" + uniqueId.substring(uniqueId.length() - 8))
+                .password("1111")
+                .email("card_" + uniqueId + "@test.com")
+                .nickname("카드_" + uniqueId.substring(uniqueId.length() - 6))
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build());
+        CategoryEntity category = categoryRepository.save(CategoryEntity.builder().categoryName("타이_" + uniqueId).build());
+        PostEntity post = postRepository.save(PostEntity.builder().title("동점").user(user).category(category).build());
+
+        PostImageEntity first = postImageRepository.save(PostImageEntity.builder()
+                .post(post).imageUrl("/uploads/tie-a.png").sortOrder(0).build());
+        postImageRepository.save(PostImageEntity.builder()
+                .post(post).imageUrl("/uploads/tie-b.png").sortOrder(0).build());
+        postImageRepository.flush();
+
+        // 읽기 모델 도입 전 글처럼 백필로 채움
+        assertThat(postCardRepository.backfillMissing()).isGreaterThanOrEqualTo(1);
+        List<HomePostDto> cards = postCardRepository.findHomeCardsByCategoryName(category.getCategoryName(), PageRequest.of(0, 10));
+        assertThat(cards).extracting(HomePostDto::id).containsExactly(post.getPostId());
+        assertThat(cards.get(0).imageUrl()).isEqualTo(first.getImageUrl());
+
+        // 이미지 변경 후 다시 계산해도 같은 이미지
+        postCardService.imagesChanged(post.getPostId());
+        postCardRepository.flush();
+        assertThat(postCardRepository.findById(post.getPostId()).orElseThrow().getImageUrl())
+                .isEqualTo(first.getImageUrl());
+    }
+}
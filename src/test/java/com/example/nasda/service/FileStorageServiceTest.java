@@ -0,0 +1,175 @@
+package com.example.nasda.service;
+
+import com.example.nasda.repository.StoredFileRepository;
+import com.example.nasda.service.storage.LocalStorageBackend;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FileStorageServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private StoredFileRepository storedFileRepository;
+    private FileStorageService storage;
+
+    @BeforeEach
+    void setUp() {
+        storedFileRepository = mock(StoredFileRepository.class);
+        storage = new FileStorageService(new LocalStorageBackend(uploadDir.toString()),
+                storedFileRepository, mock(PlatformTransactionManager.class));
+    }
+
+    private static byte[] png(int size, byte fill) {
+        byte[] png = new byte[size];
+        Arrays.fill(png, fill);
+        System.arraycopy(new byte[]{(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A}, 0, png, 0, 8);
+        return png;
+    }
+
+    @Test
+    @DisplayName("매직 바이트로 형식 판별, 내용 해시가 파일 이름")
+    void store_png() throws Exception {
+        byte[] png = png(200_000, (byte) 1);
+        String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(png));
+
+        // 클라이언트가 보낸 타입/파일명은 무시
+        FileStorageService.StoredImage stored = storage.store(
+                new MockMultipartFile("images", "photo.jpg", "application/octet-stream", png));
+
+        assertThat(stored.url()).isEqualTo("/uploads/" + sha256 + ".png");
+        assertThat(stored.contentType()).isEqualTo("image/png");
+        assertThat(stored.size()).isEqualTo(png.length);
+        assertThat(stored.sha256()).isEqualTo(sha256);
+        assertThat(Files.readAllBytes(storage.pathOf(stored.url()))).isEqualTo(png);
+        // 해시 앞 4글자로 2단계 폴더
+        assertThat(storage.pathOf(stored.url()))
+                .isEqualTo(uploadDir.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256 + ".png"));
+        assertThat(files()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("같은 내용은 한 번만 쓰고 참조만 늘림")
+    void dedup() throws Exception {
+        byte[] png = png(50_000, (byte) 2);
+
+        String first = storage.saveImage(new MockMultipartFile("images", "a.png", "image/png", png));
+        Path file = storage.pathOf(first);
+        long writtenAt = Files.getLastModifiedTime(file).toMillis();
+        Files.setLastModifiedTime(file, FileTime.fromMillis(writtenAt - 60_000));
+
+        String second = storage.saveImage(new MockMultipartFile("images", "b.png", "image/png", png));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(Files.getLastModifiedTime(file).toMillis()).isEqualTo(writtenAt - 60_000); // 다시 쓰지 않음
+        assertThat(files()).hasSize(1);
+        verify(storedFileRepository, times(2)).acquire(anyString(), anyString(), anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("마지막 참조가 사라질 때만 원본과 썸네일 삭제")
+    void delete_last_reference() throws Exception {
+        String url = storage.saveImage(new MockMultipartFile("images", "a.png", "image/png", png(1_000, (byte) 3)));
+        Files.write(storage.pathOf(storage.variantUrl(url, "w400")), new byte[]{1});
+        String sha256 = url.substring("/uploads/".length(), url.lastIndexOf('.'));
+
+        when(storedFileRepository.deleteIfUnreferenced(sha256)).thenReturn(0);
+        storage.deleteByUrl(url);
+        assertThat(files()).hasSize(2);
+
+        when(storedFileRepository.deleteIfUnreferenced(sha256)).thenReturn(1);
+        storage.deleteByUrl(url);
+        assertThat(files()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미지가 아니면 거절하고 아무 파일도 남기지 않음")
+    void reject_non_image() throws Exception {
+        MockMultipartFile fake = new MockMultipartFile("images", "a.png", "image/png", "<html></html>".getBytes());
+
+        assertThatThrownBy(() -> storage.store(fake))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미지 파일만 업로드 가능합니다.");
+        assertThat(files()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("업로드 폴더 밖을 가리키는 URL은 무시")
+    void path_of_outside() {
+        assertThat(storage.pathOf("/uploads/../secret.txt")).isNull();
+        assertThat(storage.pathOf("https://example.com/a.jpg")).isNull();
+    }
+
+    @Test
+    @DisplayName("샤딩 도입 전 평평하게 저장된 파일도 같은 URL로 읽고 지움")
+    void legacy_flat_file() throws Exception {
+        Path legacy = uploadDir.resolve("0f8fad5b-d9cb-469f-a165-70867728950e.jpg");
+        Files.write(legacy, new byte[]{1, 2, 3});
+        String url = "/uploads/0f8fad5b-d9cb-469f-a165-70867728950e.jpg";
+
+        assertThat(storage.pathOf(url)).isEqualTo(legacy);
+        assertThat(storage.exists(url)).isTrue();
+
+        storage.deleteByUrl(url);
+        assertThat(files()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("예전 UUID 파일도 커밋 후에만 삭제 (롤백되면 그대로)")
+    void legacy_delete_waits_for_commit() throws Exception {
+        Path legacy = uploadDir.resolve("7c9e6679-7425-40de-944b-e07fc1f90ae7.png");
+        Files.write(legacy, new byte[]{1, 2, 3});
+        String url = "/uploads/7c9e6679-7425-40de-944b-e07fc1f90ae7.png";
+
+        // 롤백: afterCommit 이 불리지 않음
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            storage.deleteByUrl(url);
+            assertThat(legacy).exists();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(legacy).exists();
+
+        // 커밋
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            storage.deleteByUrl(url);
+            assertThat(legacy).exists();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(legacy).doesNotExist();
+    }
+
+    private List<Path> files() throws Exception {
+        try (Stream<Path> s = Files.walk(uploadDir)) {
+            return s.filter(Files::isRegularFile).toList();
+        }
+    }
+}
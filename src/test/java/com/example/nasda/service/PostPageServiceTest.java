@@ -0,0 +1,106 @@
+package com.example.nasda.service;
+
+import com.example.nasda.domain.UserRepository;
+import com.example.nasda.dto.post.PostDetail;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostPageServiceTest {
+
+    private final PostService postService = mock(PostService.class);
+    private final CommentService commentService = mock(CommentService.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    private static PostDetail detail(Integer postId) {
+        return new PostDetail(postId, "제목", "", "여행", 1, "작성자", LocalDateTime.now(), List.of());
+    }
+
+    // DB 조회 대신: 동시에 몇 개가 돌고 있는지 기록
+    private <T> T query(T result) throws InterruptedException {
+        int now = running.incrementAndGet();
+        maxRunning.accumulateAndGet(now, Math::max);
+        try {
+            Thread.sleep(50);
+            return result;
+        } finally {
+            running.decrementAndGet();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 화면이 동시에 열려도 DB 작업은 max-concurrent-queries 개까지만")
+    void caps_concurrent_queries() throws Exception {
+        when(postService.getDetail(anyInt())).thenAnswer(inv -> query(detail(inv.getArgument(0))));
+        when(commentService.getCommentsPage(anyInt(), anyInt(), anyInt(), any()))
+                .thenAnswer(inv -> query(new PageImpl<>(List.of())));
+        PostPageService service = new PostPageService(postService, commentService, userRepository, 3000, 2);
+
+        ExecutorService requests = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<PostPageService.PostPage>> pages = new ArrayList<>();
+            for (int i = 1; i <= 6; i++) {
+                int postId = i;
+                pages.add(requests.submit(() -> service.load(postId, null, 0, 20)));
+            }
+            for (int i = 0; i < pages.size(); i++) {
+                assertThat(pages.get(i).get().post().getPostId()).isEqualTo(i + 1);
+            }
+        } finally {
+            requests.shutdownNow();
+            service.shutdown();
+        }
+
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("시간 초과면 남은 작업을 interrupt 하고 허가를 돌려줌")
+    void timeout_interrupts_workers() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(postService.getDetail(1)).thenAnswer(inv -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return detail(1);
+        });
+        when(postService.getDetail(2)).thenReturn(detail(2));
+        when(commentService.getCommentsPage(anyInt(), anyInt(), anyInt(), any())).thenReturn(new PageImpl<>(List.of()));
+        PostPageService service = new PostPageService(postService, commentService, userRepository, 200, 1);
+
+        try {
+            assertThatThrownBy(() -> service.load(1, null, 0, 20))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("시간이 초과");
+            assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+
+            // 허가가 반납되어 다음 화면은 정상
+            assertThat(service.load(2, null, 0, 20).post().getPostId()).isEqualTo(2);
+        } finally {
+            service.shutdown();
+        }
+    }
+}
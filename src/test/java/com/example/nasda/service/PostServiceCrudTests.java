@@ -1,17 +1,28 @@
 package com.example.nasda.service;
 
 import com.example.nasda.domain.*;
+import com.example.nasda.dto.post.PostDetail;
 import com.example.nasda.repository.CategoryRepository;
+import com.example.nasda.repository.PostCardRepository;
+import com.example.nasda.repository.PostImageRepository;
 import com.example.nasda.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @Transactional
 class PostServiceCrudTests {
 
@@ -19,6 +30,11 @@ class PostServiceCrudTests {
     @Autowired PostRepository postRepository;
     @Autowired UserRepository userRepository;
     @Autowired CategoryRepository categoryRepository;
+    @Autowired PostCardRepository postCardRepository;
+    @Autowired PostCardService postCardService;
+    @Autowired PostImageRepository postImageRepository;
+    @Autowired EntityManager em;
+    @Autowired EntityManagerFactory emf;
 
     @Test
     @DisplayName("게시글 생성 → 조회")
@@ -89,6 +105,101 @@ class PostServiceCrudTests {
         assertThat(postRepository.existsById(postId)).isFalse();
     }
 
+    @Test
+    @DisplayName("게시글 생성/수정/삭제 → post_cards 읽기 모델 동기화")
+    void post_card_follows_writes() {
+        UserEntity user = createUser();
+        CategoryEntity c1 = createCategory("카드1");
+        CategoryEntity c2 = createCategory("카드2");
+
+        PostEntity post = postService.create(user.getUserId(), c1.getCategoryId(), "카드 제목", "본문");
+        Integer postId = post.getPostId();
+
+        PostCardEntity card = postCardRepository.findById(postId).orElseThrow();
+        assertThat(card.getTitle()).isEqualTo("카드 제목");
+        assertThat(card.getNickname()).isEqualTo(user.getNickname());
+        assertThat(card.getCategoryName()).isEqualTo("카드1");
+
+        postService.update(postId, user.getUserId(), c2.getCategoryId(), "바뀐 제목", "본문");
+        card = postCardRepository.findById(postId).orElseThrow();
+        assertThat(card.getTitle()).isEqualTo("바뀐 제목");
+        assertThat(card.getCategoryName()).isEqualTo("카드2");
+        // 카드 수정 시각은 글의 updated_at 그대로
+        assertThat(card.getUpdatedAt()).isNotNull().isEqualTo(postRepository.findById(postId).orElseThrow().getUpdatedAt());
+
+        // 이미지 변경은 수정 시각이 아니라 이미지 버전만 올림
+        LocalDateTime updatedAt = card.getUpdatedAt();
+        int imageVersion = card.getImageVersion();
+        postImageRepository.save(PostImageEntity.builder().post(post).imageUrl("/uploads/card.png").sortOrder(0).build());
+        postCardService.imagesChanged(postId);
+        card = postCardRepository.findById(postId).orElseThrow();
+        assertThat(card.getImageUrl()).isEqualTo("/uploads/card.png");
+        assertThat(card.getImageVersion()).isEqualTo(imageVersion + 1);
+        assertThat(card.getUpdatedAt()).isEqualTo(updatedAt);
+
+        postService.delete(postId, user.getUserId());
+        assertThat(postCardRepository.existsById(postId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("상세 조회: 글/작성자/카테고리/이미지를 쿼리 2번 이하로")
+    void post_detail_query_count() {
+        UserEntity user = createUser();
+        CategoryEntity category = createCategory("상세");
+
+        PostEntity post = postService.create(user.getUserId(), category.getCategoryId(), "상세 제목", "본문");
+        for (int i = 2; i >= 0; i--) {
+            postImageRepository.save(PostImageEntity.builder()
+                    .post(post)
+                    .imageUrl("/uploads/detail-" + i + ".png")
+                    .sortOrder(i)
+                    .build());
+        }
+
+        // 1차 캐시를 비워야 실제 조회 쿼리 수를 셀 수 있음
+        em.flush();
+        em.clear();
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        PostDetail detail = postService.getDetail(post.getPostId());
+        var view = detail.toView(user.getUserId());
+
+        assertThat(stats.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(detail.authorNickname()).isEqualTo(user.getNickname());
+        assertThat(detail.categoryName()).isEqualTo("상세");
+        assertThat(detail.imageUrls()).containsExactly(
+                "/uploads/detail-0.png", "/uploads/detail-1.png", "/uploads/detail-2.png");
+        assertThat(view.getImageItems()).extracting("sortOrder").containsExactly(0, 1, 2);
+        assertThat(view.isOwner()).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미지 여러 장 저장은 시퀀스 id + JDBC 배치로 한 번에 insert")
+    void batched_image_insert() {
+        UserEntity user = createUser();
+        CategoryEntity category = createCategory("배치");
+        PostEntity post = postService.create(user.getUserId(), category.getCategoryId(), "배치 제목", "본문");
+
+        // 시퀀스 블록(50개)을 미리 받아 둬야 nextval 조회가 측정에 섞이지 않음
+        postImageRepository.save(PostImageEntity.builder().post(post).imageUrl("/uploads/warm.png").sortOrder(0).build());
+        em.flush();
+        em.clear();
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        PostEntity ref = em.getReference(PostEntity.class, post.getPostId());
+        List<PostImageEntity> images = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            images.add(PostImageEntity.builder().post(ref).imageUrl("/uploads/batch-" + i + ".png").sortOrder(i).build());
+        }
+        postImageRepository.saveAll(images);
+        em.flush();
+
+        assertThat(stats.getPrepareStatementCount()).isLessThanOrEqualTo(1);
+        assertThat(images).extracting(PostImageEntity::getImageId).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
     // ======================
     // helper methods
     // ======================
@@ -0,0 +1,214 @@
+package com.example.nasda.service;
+
+import com.example.nasda.domain.CategoryEntity;
+import com.example.nasda.domain.PostEntity;
+import com.example.nasda.domain.UserEntity;
+import com.example.nasda.domain.UserRepository;
+import com.example.nasda.dto.post.HomeFeedCursor;
+import com.example.nasda.dto.post.HomeFeedDto;
+import com.example.nasda.dto.post.HomePostDto;
+import com.example.nasda.repository.CategoryRepository;
+import com.example.nasda.repository.CommentRepository;
+import com.example.nasda.repository.PostCardRepository;
+import com.example.nasda.repository.PostImageRepository;
+import com.example.nasda.repository.PostRepository;
+import com.example.nasda.service.search.PostSearchEngine;
+import com.example.nasda.service.search.SearchResultCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// DB 없이 목으로 보는 PostService 단위 테스트 (CRUD 통합 테스트는 PostServiceCrudTests)
+class PostServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 3, 1, 12, 0, 0, 123_000_000);
+
+    private PostRepository postRepository;
+    private CategoryRepository categoryRepository;
+    private UserRepository userRepository;
+    private PostCardService postCardService;
+    private PostCardRepository postCardRepository;
+    private HomeFeedCache homeFeedCache;
+    private PostService postService;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        categoryRepository = mock(CategoryRepository.class);
+        userRepository = mock(UserRepository.class);
+        postCardService = mock(PostCardService.class);
+        postCardRepository = mock(PostCardRepository.class);
+        homeFeedCache = new HomeFeedCache(3, 256, new SimpleMeterRegistry());
+        postService = new PostService(postRepository, categoryRepository, userRepository,
+                mock(PostImageRepository.class), mock(CommentRepository.class), homeFeedCache, postCardService,
+                postCardRepository, mock(PostSearchEngine.class), mock(SearchResultCache.class),
+                mock(FileStorageService.class));
+    }
+
+    private static HomePostDto card(int id, LocalDateTime createdAt) {
+        return new HomePostDto(id, "글 " + id, "/uploads/" + id + ".png", createdAt, null, null, null, null);
+    }
+
+    @Test
+    @DisplayName("커서는 (createdAt, postId) 를 그대로 왕복, 빈 값은 첫 페이지")
+    void cursor_round_trip() {
+        HomeFeedCursor cursor = new HomeFeedCursor(T0, 42);
+
+        assertThat(HomeFeedCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(HomeFeedCursor.decode("")).isNull();
+        assertThat(HomeFeedCursor.decode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("깨진 커서는 IllegalArgumentException (컨트롤러에서 400)")
+    void cursor_malformed() {
+        String noSeparator = Base64.getUrlEncoder().encodeToString("2026-03-01T12:00".getBytes());
+        String badDate = Base64.getUrlEncoder().encodeToString("어제|3".getBytes());
+
+        assertThatThrownBy(() -> HomeFeedCursor.decode("%%%")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HomeFeedCursor.decode(noSeparator)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HomeFeedCursor.decode(badDate)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> postService.getHomeFeed(null, "%%%", 2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("keyset 페이징: size+1 개로 다음 여부 판단, 다음 요청은 마지막 카드 뒤부터 (같은 시각은 id 로)")
+    void keyset_paging() {
+        // 2, 3 번은 같은 시각 → id 내림차순
+        when(postCardRepository.findHomeCards(PageRequest.of(0, 3)))
+                .thenReturn(List.of(card(5, T0.plusMinutes(2)), card(3, T0), card(2, T0)));
+
+        HomeFeedDto first = postService.getHomeFeed(null, "", 2);
+        assertThat(first.items()).extracting(HomePostDto::id).containsExactly(5, 3);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(HomeFeedCursor.decode(first.nextCursor())).isEqualTo(new HomeFeedCursor(T0, 3));
+
+        when(postCardRepository.findHomeCardsAfter(T0, 3, PageRequest.of(0, 3)))
+                .thenReturn(List.of(card(2, T0)));
+
+        HomeFeedDto second = postService.getHomeFeed("전체", first.nextCursor(), 2);
+        assertThat(second.items()).extracting(HomePostDto::id).containsExactly(2);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+        verify(postCardRepository).findHomeCardsAfter(T0, 3, PageRequest.of(0, 3));
+    }
+
+    @Test
+    @DisplayName("카테고리 피드도 같은 방식, 첫 페이지만 캐시")
+    void keyset_paging_by_category() {
+        when(postCardRepository.findHomeCardsByCategoryName("여행", PageRequest.of(0, 3)))
+                .thenReturn(List.of(card(9, T0), card(8, T0)));
+
+        HomeFeedDto first = postService.getHomeFeed("여행", null, 2);
+        postService.getHomeFeed("여행", null, 2);
+
+        assertThat(first.hasNext()).isFalse();
+        verify(postCardRepository).findHomeCardsByCategoryName("여행", PageRequest.of(0, 3));
+        assertThat(homeFeedCache.size()).isEqualTo(1);
+    }
+
+    // ===== 글 쓰기 → 홈 피드 캐시 무효화 (트랜잭션 밖이므로 afterCommit 이 바로 실행됨) =====
+
+    private static final UserEntity WRITER = UserEntity.builder().userId(1).nickname("작성자").build();
+    private static final CategoryEntity TRAVEL = CategoryEntity.builder().categoryId(1).categoryName("여행").build();
+    private static final CategoryEntity FOOD = CategoryEntity.builder().categoryId(2).categoryName("음식").build();
+    private static final CategoryEntity NATURE = CategoryEntity.builder().categoryId(3).categoryName("자연").build();
+
+    // 전체 = [9, 7], 여행 = [9], 음식 = [7], 자연 = [4] 첫 페이지를 캐시에 올림
+    private void warmFeeds() {
+        when(postCardRepository.findHomeCards(PageRequest.of(0, 3)))
+                .thenReturn(List.of(card(9, T0), card(7, T0)));
+        when(postCardRepository.findHomeCardsByCategoryName("여행", PageRequest.of(0, 3))).thenReturn(List.of(card(9, T0)));
+        when(postCardRepository.findHomeCardsByCategoryName("음식", PageRequest.of(0, 3))).thenReturn(List.of(card(7, T0)));
+        when(postCardRepository.findHomeCardsByCategoryName("자연", PageRequest.of(0, 3))).thenReturn(List.of(card(4, T0)));
+        loadFeeds();
+        assertThat(homeFeedCache.size()).isEqualTo(4);
+    }
+
+    private void loadFeeds() {
+        postService.getHomeFeed(null, null, 2);
+        postService.getHomeFeed("여행", null, 2);
+        postService.getHomeFeed("음식", null, 2);
+        postService.getHomeFeed("자연", null, 2);
+    }
+
+    // 피드별 DB 조회 누적 횟수 (캐시에서 빠진 피드만 2가 됨)
+    private void verifyLoads(int all, int travel, int food, int nature) {
+        verify(postCardRepository, times(all)).findHomeCards(PageRequest.of(0, 3));
+        verify(postCardRepository, times(travel)).findHomeCardsByCategoryName("여행", PageRequest.of(0, 3));
+        verify(postCardRepository, times(food)).findHomeCardsByCategoryName("음식", PageRequest.of(0, 3));
+        verify(postCardRepository, times(nature)).findHomeCardsByCategoryName("자연", PageRequest.of(0, 3));
+    }
+
+    @Test
+    @DisplayName("새 글: 그 카테고리와 전체 첫 페이지만 무효화")
+    void create_evicts_category_and_all() {
+        warmFeeds();
+        when(userRepository.findById(1)).thenReturn(Optional.of(WRITER));
+        when(categoryRepository.findById(2)).thenReturn(Optional.of(FOOD));
+        when(postRepository.save(any(PostEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        postService.create(1, 2, "새 글", "본문");
+        loadFeeds();
+
+        verifyLoads(2, 1, 2, 1);
+    }
+
+    @Test
+    @DisplayName("수정: 그 글이 든 페이지만 무효화")
+    void update_evicts_post_pages() {
+        warmFeeds();
+        PostEntity post = PostEntity.builder().postId(9).user(WRITER).category(TRAVEL).title("여행 글").build();
+        when(postRepository.findById(9)).thenReturn(Optional.of(post));
+        when(categoryRepository.findById(1)).thenReturn(Optional.of(TRAVEL));
+
+        postService.update(9, 1, 1, "바뀐 제목", "본문");
+        loadFeeds();
+
+        verifyLoads(2, 2, 1, 1);
+    }
+
+    @Test
+    @DisplayName("카테고리 이동: 첫 페이지에 없던 글이어도 빠진 카테고리/들어간 카테고리/전체 무효화")
+    void update_moving_category_evicts_old_and_new() {
+        warmFeeds();
+        // 12번은 캐시된 어떤 첫 페이지에도 없는 오래된 여행 글
+        PostEntity post = PostEntity.builder().postId(12).user(WRITER).category(TRAVEL).title("오래된 여행 글").build();
+        when(postRepository.findById(12)).thenReturn(Optional.of(post));
+        when(categoryRepository.findById(3)).thenReturn(Optional.of(NATURE));
+
+        postService.update(12, 1, 3, "자연 글", "본문");
+        loadFeeds();
+
+        verifyLoads(2, 2, 1, 2);
+    }
+
+    @Test
+    @DisplayName("삭제: 그 카테고리와 전체 첫 페이지만 무효화")
+    void delete_evicts_category_and_all() {
+        warmFeeds();
+        PostEntity post = PostEntity.builder().postId(7).user(WRITER).category(FOOD).title("음식 글").build();
+        when(postRepository.findById(7)).thenReturn(Optional.of(post));
+
+        postService.delete(7, 1);
+        loadFeeds();
+
+        verifyLoads(2, 1, 2, 1);
+        verify(postCardService).deleted(7);
+    }
+}
@@ -70,7 +70,7 @@ public class StickerServiceTest {
         log.info("예외 발생 테스트 성공 (존재하지 않는 카테고리)");
     }
 
-    // 3. 카테고리별 조회 테스트 (ModelMapper 동작 확인)
+    // 3. 카테고리별 조회 테스트 (StickerMapper 동작 확인)
     @Test
     public void testGetByCategoryId() {
         // (데이터가 없으면 테스트가 안 되므로, 위 testRegister()가 실행된 후라고 가정하거나
@@ -97,7 +97,7 @@ public class StickerServiceTest {
             log.info("----------------------------------");
             log.info("Sticker Name: " + dto.getStickerName());
             log.info("Image URL   : " + dto.getStickerImageUrl());
-            // ★ 가장 중요한 확인 포인트: LOOSE 전략으로 카테고리 이름이 잘 들어왔는가?
+            // ★ 가장 중요한 확인 포인트: 카테고리 이름이 잘 들어왔는가?
             log.info("Category Name (Mapped): " + dto.getCategoryName());
             log.info("----------------------------------");
 
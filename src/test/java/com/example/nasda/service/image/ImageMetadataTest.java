@@ -0,0 +1,77 @@
+package com.example.nasda.service.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageMetadataTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("PNG: 크기는 헤더에서, 대표색은 가장 넓은 색, blurhash 28자")
+    void png() throws Exception {
+        BufferedImage src = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < 600; y++) {
+            for (int x = 0; x < 800; x++) {
+                src.setRGB(x, y, x < 600 ? 0x3366cc : 0xff0000);
+            }
+        }
+        Path file = dir.resolve("a.png");
+        ImageIO.write(src, "png", file.toFile());
+
+        ImageMetadata meta = ImageMetadata.read(file);
+
+        assertThat(meta.width()).isEqualTo(800);
+        assertThat(meta.height()).isEqualTo(600);
+        assertThat(meta.dominantColor()).isEqualTo("#3366cc");
+        assertThat(meta.blurHash()).hasSize(28).startsWith("L");
+    }
+
+    @Test
+    @DisplayName("세로 이미지는 세로 4칸 blurhash, 투명 픽셀은 대표색에서 제외")
+    void portrait_with_alpha() throws Exception {
+        BufferedImage src = new BufferedImage(300, 900, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < 900; y++) {
+            for (int x = 0; x < 300; x++) {
+                src.setRGB(x, y, y < 200 ? 0xff20a040 : 0x00000000);
+            }
+        }
+        Path file = dir.resolve("b.png");
+        ImageIO.write(src, "png", file.toFile());
+
+        ImageMetadata meta = ImageMetadata.read(file);
+
+        assertThat(meta.width()).isEqualTo(300);
+        assertThat(meta.height()).isEqualTo(900);
+        assertThat(meta.dominantColor()).isEqualTo("#20a040");
+        assertThat(meta.blurHash()).startsWith("T"); // 3 x 4 성분
+    }
+
+    @Test
+    @DisplayName("WebP는 헤더에서 크기만, 이미지가 아니면 UNKNOWN")
+    void webp_and_unknown() throws Exception {
+        byte[] vp8x = new byte[30];
+        System.arraycopy("RIFF".getBytes(), 0, vp8x, 0, 4);
+        System.arraycopy("WEBPVP8X".getBytes(), 0, vp8x, 8, 8);
+        // 캔버스 1919 x 1079 (값 - 1, 24비트 little endian)
+        vp8x[24] = (byte) 0x7F; vp8x[25] = 0x07;
+        vp8x[27] = (byte) 0x37; vp8x[28] = 0x04;
+        Path webp = dir.resolve("c.webp");
+        Files.write(webp, vp8x);
+
+        assertThat(ImageMetadata.read(webp)).isEqualTo(new ImageMetadata(1920, 1080, null, null));
+
+        Path text = dir.resolve("d.txt");
+        Files.writeString(text, "not an image, just some text padding it out");
+        assertThat(ImageMetadata.readQuietly(text)).isEqualTo(ImageMetadata.UNKNOWN);
+    }
+}
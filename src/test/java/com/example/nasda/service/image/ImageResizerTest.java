@@ -0,0 +1,92 @@
+package com.example.nasda.service.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageResizerTest {
+
+    @Test
+    @DisplayName("가로 기준 비율 유지 축소, 이미 작으면 null")
+    void shrink() {
+        BufferedImage src = new BufferedImage(3000, 2000, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage card = ImageResizer.shrinkToWidth(src, ThumbnailService.CARD_WIDTH);
+        assertThat(card.getWidth()).isEqualTo(400);
+        assertThat(card.getHeight()).isEqualTo(267);
+        assertThat(card.getType()).isEqualTo(BufferedImage.TYPE_INT_RGB);
+
+        assertThat(ImageResizer.shrinkToWidth(card, ThumbnailService.CARD_WIDTH)).isNull();
+    }
+
+    @Test
+    @DisplayName("JPEG 저장 후 다시 읽을 수 있음")
+    void write_jpeg() throws Exception {
+        BufferedImage src = new BufferedImage(1200, 800, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageResizer.writeJpeg(ImageResizer.shrinkToWidth(src, 400), 0.82f, out);
+
+        BufferedImage read = ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+        assertThat(read.getWidth()).isEqualTo(400);
+        assertThat(ImageResizer.exifOrientation(new ByteArrayInputStream(out.toByteArray()))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("EXIF 회전값 읽기 (빅/리틀 엔디언)")
+    void exif_orientation() throws Exception {
+        assertThat(ImageResizer.exifOrientation(new ByteArrayInputStream(jpegWithOrientation(6, false)))).isEqualTo(6);
+        assertThat(ImageResizer.exifOrientation(new ByteArrayInputStream(jpegWithOrientation(8, true)))).isEqualTo(8);
+        assertThat(ImageResizer.exifOrientation(new ByteArrayInputStream(new byte[]{(byte) 0x89, 'P', 'N', 'G'})))
+                .isEqualTo(1);
+    }
+
+    // SOI + APP1(Exif, IFD0 에 Orientation 태그 하나) + SOS
+    private static byte[] jpegWithOrientation(int orientation, boolean little) {
+        ByteArrayOutputStream tiff = new ByteArrayOutputStream();
+        tiff.writeBytes(little ? new byte[]{'I', 'I'} : new byte[]{'M', 'M'});
+        writeShort(tiff, 42, little);
+        writeInt(tiff, 8, little);          // IFD0 offset
+        writeShort(tiff, 1, little);        // 항목 수
+        writeShort(tiff, 0x0112, little);   // Orientation
+        writeShort(tiff, 3, little);        // SHORT
+        writeInt(tiff, 1, little);
+        writeShort(tiff, orientation, little);
+        writeShort(tiff, 0, little);
+        writeInt(tiff, 0, little);          // 다음 IFD 없음
+
+        byte[] body = tiff.toByteArray();
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        jpeg.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE1});
+        writeShort(jpeg, 2 + 6 + body.length, false);
+        jpeg.writeBytes(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        jpeg.writeBytes(body);
+        jpeg.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xDA});
+        return jpeg.toByteArray();
+    }
+
+    private static void writeShort(ByteArrayOutputStream out, int v, boolean little) {
+        if (little) {
+            out.write(v & 0xFF);
+            out.write((v >> 8) & 0xFF);
+        } else {
+            out.write((v >> 8) & 0xFF);
+            out.write(v & 0xFF);
+        }
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int v, boolean little) {
+        if (little) {
+            writeShort(out, v & 0xFFFF, true);
+            writeShort(out, (v >>> 16) & 0xFFFF, true);
+        } else {
+            writeShort(out, (v >>> 16) & 0xFFFF, false);
+            writeShort(out, v & 0xFFFF, false);
+        }
+    }
+}
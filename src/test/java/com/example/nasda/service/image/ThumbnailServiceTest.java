@@ -0,0 +1,160 @@
+package com.example.nasda.service.image;
+
+import com.example.nasda.domain.PostEntity;
+import com.example.nasda.domain.PostImageEntity;
+import com.example.nasda.repository.PostImageRepository;
+import com.example.nasda.repository.StoredFileRepository;
+import com.example.nasda.service.FileStorageService;
+import com.example.nasda.service.HomeFeedCache;
+import com.example.nasda.service.PostCardService;
+import com.example.nasda.service.storage.LocalStorageBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ThumbnailServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private PostImageRepository postImageRepository;
+    private FileStorageService fileStorageService;
+    private PostCardService postCardService;
+    private ThumbnailService thumbnailService;
+
+    @BeforeEach
+    void setUp() {
+        postImageRepository = mock(PostImageRepository.class);
+        postCardService = mock(PostCardService.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        fileStorageService = new FileStorageService(new LocalStorageBackend(uploadDir.toString()),
+                mock(StoredFileRepository.class), transactionManager);
+        thumbnailService = new ThumbnailService(postImageRepository, fileStorageService, postCardService,
+                mock(HomeFeedCache.class), new TransactionTemplate(transactionManager), 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        thumbnailService.shutdown();
+    }
+
+    private PostImageEntity image(int id, byte[] bytes) {
+        String url = fileStorageService.store(new MockMultipartFile("images", "a.png", "image/png", bytes)).url();
+        PostImageEntity image = PostImageEntity.builder()
+                .imageId(id)
+                .post(PostEntity.builder().postId(10).build())
+                .imageUrl(url)
+                .sortOrder(0)
+                .build();
+        when(postImageRepository.findById(id)).thenReturn(Optional.of(image));
+        return image;
+    }
+
+    @Test
+    @DisplayName("상세/카드 썸네일을 만들고, 원본은 필요한 만큼만 솎아 읽음")
+    void generates_variants() throws Exception {
+        BufferedImage wide = new BufferedImage(5000, 100, BufferedImage.TYPE_BYTE_GRAY);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(wide, "png", png);
+        PostImageEntity image = image(1, png.toByteArray());
+
+        // 1080 의 2배 이상만 남김 (5000 → 2500)
+        Path original = fileStorageService.pathOf(image.getImageUrl());
+        assertThat(ImageResizer.read(original, ThumbnailService.VIEW_WIDTH).getWidth()).isEqualTo(2500);
+
+        thumbnailService.generate(1);
+
+        assertThat(image.getViewUrl()).endsWith("_w1080.jpg");
+        assertThat(image.getCardUrl()).endsWith("_w400.jpg");
+        assertThat(ImageIO.read(fileStorageService.pathOf(image.getViewUrl()).toFile()).getWidth()).isEqualTo(1080);
+        assertThat(ImageIO.read(fileStorageService.pathOf(image.getCardUrl()).toFile()).getWidth()).isEqualTo(400);
+        assertThat(image.getWidth()).isEqualTo(5000);
+        verify(postCardService).imagesChanged(10);
+    }
+
+    @Test
+    @DisplayName("픽셀 수 상한을 넘는 이미지(압축 폭탄)는 디코딩하지 않고 원본 그대로, 크기만 기록")
+    void skips_decompression_bomb() throws Exception {
+        PostImageEntity image = image(2, pngHeader(20_000, 20_000));
+
+        assertThat(ImageResizer.read(fileStorageService.pathOf(image.getImageUrl()), ThumbnailService.VIEW_WIDTH)).isNull();
+
+        thumbnailService.generate(2);
+
+        assertThat(image.getCardUrl()).isEqualTo(image.getImageUrl());
+        assertThat(image.getViewUrl()).isEqualTo(image.getImageUrl());
+        assertThat(image.getWidth()).isEqualTo(20_000);
+        assertThat(image.getDominantColor()).isNull();
+        assertThat(fileStorageService.exists(fileStorageService.variantUrl(image.getImageUrl(), "w1080"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("원본이 없거나 크기를 못 읽으면 실패로 기록하고 다시 시도하지 않음")
+    void marks_unreadable_images() {
+        PostImageEntity image = PostImageEntity.builder()
+                .imageId(3)
+                .post(PostEntity.builder().postId(10).build())
+                .imageUrl("/uploads/missing.png")
+                .sortOrder(0)
+                .build();
+        when(postImageRepository.findById(3)).thenReturn(Optional.of(image));
+
+        thumbnailService.generate(3);
+
+        assertThat(image.getMetadataFailed()).isTrue();
+        assertThat(image.getWidth()).isNull();
+        assertThat(image.getCardUrl()).isEqualTo("/uploads/missing.png");
+
+        // 두 번째는 할 일이 없으므로 카드 갱신도 없음
+        thumbnailService.generate(3);
+        verify(postCardService, times(1)).imagesChanged(10);
+    }
+
+    // 헤더(IHDR)만 큰 크기로 적은 PNG (픽셀 데이터는 거의 없음)
+    private static byte[] pngHeader(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(out);
+        data.write(new byte[]{(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A});
+
+        ByteArrayOutputStream ihdr = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(ihdr);
+        header.writeInt(width);
+        header.writeInt(height);
+        header.write(new byte[]{8, 0, 0, 0, 0}); // 8bit 회색조
+        chunk(data, "IHDR", ihdr.toByteArray());
+        chunk(data, "IDAT", new byte[]{0x78, (byte) 0x9C, 0x03, 0x00, 0x00, 0x00, 0x00, 0x01});
+        chunk(data, "IEND", new byte[0]);
+        return out.toByteArray();
+    }
+
+    private static void chunk(DataOutputStream out, String type, byte[] body) throws IOException {
+        out.writeInt(body.length);
+        byte[] name = type.getBytes();
+        out.write(name);
+        out.write(body);
+        CRC32 crc = new CRC32();
+        crc.update(name);
+        crc.update(body);
+        out.writeInt((int) crc.getValue());
+    }
+}
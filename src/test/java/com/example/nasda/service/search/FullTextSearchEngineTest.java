@@ -0,0 +1,85 @@
+package com.example.nasda.service.search;
+
+import com.example.nasda.dto.search.SearchDocument;
+import com.example.nasda.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FullTextSearchEngineTest {
+
+    private PostRepository postRepository;
+    private FullTextSearchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        engine = new FullTextSearchEngine(postRepository, mock(DataSource.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), 0.3, 30);
+    }
+
+    private static SearchDocument doc(int postId, String title, String description) {
+        return new SearchDocument(postId, 1, title, description, "여행가", "여행", LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("기존 글 토큰은 엔티티를 올리지 않고 컬럼만 update, postId 순 배치")
+    void backfill_updates_token_columns_only() {
+        when(postRepository.findDocumentsWithoutSearchTokens(eq(0), any(Pageable.class)))
+                .thenReturn(List.of(doc(3, "제주 여행", "바다"), doc(7, "캠핑", null)));
+        when(postRepository.findDocumentsWithoutSearchTokens(eq(7), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        assertThat(engine.backfill()).isEqualTo(2);
+
+        verify(postRepository).updateSearchTokens(3,
+                SearchAnalyzer.fullTextTokens("제주 여행"), SearchAnalyzer.fullTextTokens("바다"));
+        verify(postRepository).updateSearchTokens(7, SearchAnalyzer.fullTextTokens("캠핑"), "");
+        verify(postRepository, never()).findAllById(anyList());
+        verify(postRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("작성자/카테고리 LIKE 검색어의 %, _ 는 글자 그대로")
+    void like_wildcards_are_escaped() {
+        when(postRepository.searchIdsByNickname("100!%!_!_", 30, 0)).thenReturn(List.of(5));
+        when(postRepository.countByNicknameLike("100!%!_!_")).thenReturn(1L);
+
+        SearchHits hits = engine.search("100%__", SearchType.AUTHOR, 0, 30);
+
+        assertThat(hits.postIds()).containsExactly(5);
+        assertThat(hits.total()).isEqualTo(1);
+        assertThat(SearchAnalyzer.escapeLike("a!b")).isEqualTo("a!!b");
+    }
+
+    @Test
+    @DisplayName("결과 창(MAX_RESULT_WINDOW) 밖 페이지는 조회하지 않고, 창 끝 페이지는 남은 만큼만")
+    void result_window() {
+        when(postRepository.countByCategoryNameLike("여행")).thenReturn(5000L);
+        when(postRepository.searchIdsByCategoryName("여행", 10, 990)).thenReturn(List.of(1, 2));
+
+        assertThat(engine.search("여행", SearchType.CATEGORY, 100, 10).postIds()).isEmpty();
+        verify(postRepository, never()).searchIdsByCategoryName(eq("여행"), anyInt(), eq(1000));
+
+        SearchHits last = engine.search("여행", SearchType.CATEGORY, 33, 30);
+        assertThat(last.postIds()).containsExactly(1, 2);
+        assertThat(last.total()).isEqualTo(PostSearchEngine.MAX_RESULT_WINDOW);
+    }
+}
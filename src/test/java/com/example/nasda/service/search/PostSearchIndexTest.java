@@ -0,0 +1,135 @@
+package com.example.nasda.service.search;
+
+import com.example.nasda.dto.search.SearchDocument;
+import com.example.nasda.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PostSearchIndexTest {
+
+    private PostSearchIndex index;
+    private final LocalDateTime base = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        index = new PostSearchIndex(mock(PostRepository.class), 0.3, 30);
+        // 트랜잭션 밖에서 호출하면 바로 반영됨
+        index.upsert(doc(1, 10, "Spring travel", "cherry blossom trip", "alice", "여행", 0));
+        index.upsert(doc(2, 20, "Winter travel", "snow snow snow", "bob", "여행", 1));
+        index.upsert(doc(3, 10, "Cooking", "pasta recipe", "alice", "요리", 2));
+    }
+
+    @Test
+    @DisplayName("필드별 검색 + 모든 토큰 포함(AND)")
+    void search_by_field() {
+        assertThat(index.search("travel", SearchType.TITLE, 0, 10).postIds()).containsExactly(2, 1);
+        assertThat(index.search("spring travel", SearchType.TITLE, 0, 10).postIds()).containsExactly(1);
+        assertThat(index.search("alice", SearchType.AUTHOR, 0, 10).postIds()).containsExactly(3, 1);
+        assertThat(index.search("pasta", SearchType.CONTENT, 0, 10).postIds()).containsExactly(3);
+        assertThat(index.search("없는말", SearchType.CONTENT, 0, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("한글은 띄어쓰기 없이도 부분 문자열로 찾음")
+    void hangul_substring() {
+        index.upsert(doc(4, 30, "제주도여행기록", "성산일출봉에서 본 해돋이", "여행가", "여행", 3));
+
+        assertThat(index.search("주도여", SearchType.TITLE, 0, 10).postIds()).containsExactly(4);
+        assertThat(index.search("일출", SearchType.CONTENT, 0, 10).postIds()).containsExactly(4);
+        assertThat(index.search("행", SearchType.CATEGORY, 0, 10).postIds()).containsExactly(4, 2, 1);
+        assertThat(index.search("여행 기록", SearchType.TITLE, 0, 10).postIds()).containsExactly(4);
+        assertThat(index.search("서울여행", SearchType.TITLE, 0, 10).postIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("분석기: 전각/대소문자 정규화, 한글 2-gram + 라틴 단어")
+    void analyzer() {
+        assertThat(SearchAnalyzer.analyzeQuery("ＳＰＲＩＮＧ　Ｔｒａｖｅｌ")).containsExactly("spring", "travel");
+        assertThat(SearchAnalyzer.analyzeQuery("아이폰15 케이스")).containsExactly("아이", "이폰", "15", "케이", "이스");
+        assertThat(SearchAnalyzer.analyze("봄꽃")).containsExactly("봄", "봄꽃", "꽃");
+        assertThat(index.search("ｐａｓｔａ", SearchType.CONTENT, 0, 10).postIds()).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("FULLTEXT 토큰: 최소 길이(3)를 넘도록 접미사, 검색어는 모든 토큰 필수")
+    void full_text_tokens() {
+        assertThat(SearchAnalyzer.fullTextTokens("봄꽃 a")).isEqualTo("봄qq 봄꽃qq 꽃qq aqq");
+        assertThat(SearchAnalyzer.fullTextQuery("제주여행")).isEqualTo("+제주qq +주여qq +여행qq");
+        assertThat(SearchAnalyzer.fullTextQuery("  !? ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("BM25: 더 자주/더 짧은 필드에 나온 글이 위, 본문 검색은 제목도 포함")
+    void bm25_ranking() {
+        index.upsert(doc(5, 40, "Daily log", "snow", "dave", "일상", 0));
+
+        // 2번(snow×3)이 5번(snow×1)보다 위
+        assertThat(index.search("snow", SearchType.CONTENT, 0, 10).postIds()).containsExactly(2, 5);
+        // 본문 검색이지만 제목에만 있는 단어도 찾음
+        assertThat(index.search("cooking", SearchType.CONTENT, 0, 10).postIds()).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("최신 가중치: 점수가 같으면 새 글이 위, 오래된 글은 밀림")
+    void recency_boost() {
+        LocalDateTime now = LocalDateTime.now();
+        index.upsert(new SearchDocument(6, 50, "Camping", "", "eve", "여행", now.minusDays(365)));
+        index.upsert(new SearchDocument(7, 50, "Camping", "", "eve", "여행", now.minusHours(1)));
+
+        assertThat(index.search("camping", SearchType.TITLE, 0, 10).postIds()).containsExactly(7, 6);
+    }
+
+    @Test
+    @DisplayName("페이지 나누기 + 전체 개수")
+    void paging() {
+        SearchHits second = index.search("travel", SearchType.TITLE, 1, 1);
+        assertThat(second.postIds()).containsExactly(1);
+        assertThat(second.total()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전체 개수와 다음 페이지는 결과 창(MAX_RESULT_WINDOW)까지만")
+    void total_capped_at_result_window() {
+        for (int id = 100; id < 100 + PostSearchEngine.MAX_RESULT_WINDOW + 50; id++) {
+            index.upsert(doc(id, 30, "Bulk travel " + id, "", "dave", "여행", 3));
+        }
+
+        SearchHits last = index.search("bulk", SearchType.TITLE, 99, 10);
+        assertThat(last.postIds()).hasSize(10);
+        assertThat(last.total()).isEqualTo(PostSearchEngine.MAX_RESULT_WINDOW);
+        // 창 끝 페이지 다음은 없음 (PageImpl 로 감싸면 hasNext=false)
+        assertThat(new PageImpl<>(last.postIds(),
+                PageRequest.of(99, 10), last.total()).hasNext()).isFalse();
+        assertThat(index.search("bulk", SearchType.TITLE, 100, 10).total()).isEqualTo(PostSearchEngine.MAX_RESULT_WINDOW);
+    }
+
+    @Test
+    @DisplayName("수정/삭제/닉네임 변경 반영")
+    void updates() {
+        index.upsert(doc(1, 10, "Autumn walk", "leaves", "alice", "여행", 0));
+        assertThat(index.search("spring", SearchType.TITLE, 0, 10).postIds()).isEmpty();
+        assertThat(index.search("autumn", SearchType.TITLE, 0, 10).postIds()).containsExactly(1);
+
+        index.nicknameChanged(10, "carol");
+        assertThat(index.search("alice", SearchType.AUTHOR, 0, 10).postIds()).isEmpty();
+        assertThat(index.search("carol", SearchType.AUTHOR, 0, 10).postIds()).containsExactly(3, 1);
+
+        index.remove(3);
+        assertThat(index.search("carol", SearchType.AUTHOR, 0, 10).postIds()).containsExactly(1);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private SearchDocument doc(int id, int userId, String title, String description,
+                               String nickname, String category, int minutes) {
+        return new SearchDocument(id, userId, title, description, nickname, category, base.plusMinutes(minutes));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.nasda.service.search;
+
+import com.example.nasda.dto.search.SearchDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchResultCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private SimpleMeterRegistry registry;
+    private SearchResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new SearchResultCache(3, Duration.ofSeconds(60), registry, now::get);
+    }
+
+    private SearchHits search(SearchType type, String keyword, int page, Integer... ids) {
+        return cache.getOrLoad(type, keyword, page, 30, () -> {
+            loads.incrementAndGet();
+            return new SearchHits(List.of(ids), ids.length);
+        });
+    }
+
+    private static SearchDocument doc(int postId, String title, String description) {
+        return new SearchDocument(postId, 1, title, description, "여행가", "여행", LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("정규화한 검색어가 같으면 한 번만 검색, 지표에 히트율")
+    void hit_by_normalized_keyword() {
+        search(SearchType.CONTENT, "제주  여행", 0, 1, 2);
+        search(SearchType.CONTENT, " 제주 여행 ", 0, 1, 2);
+        search(SearchType.TITLE, "제주 여행", 0, 1);
+
+        assertThat(loads).hasValue(2);
+        assertThat(registry.get("search.cache.requests").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("search.cache.hit.ratio").gauge().value()).isEqualTo(1.0 / 3);
+        assertThat(registry.get("search.cache.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 검색, 개수를 넘으면 가장 오래 안 쓴 것부터 제거")
+    void ttl_and_lru() {
+        search(SearchType.CONTENT, "a", 0, 1);
+        now.addAndGet(Duration.ofSeconds(61).toNanos());
+        search(SearchType.CONTENT, "a", 0, 1);
+        assertThat(loads).hasValue(2);
+
+        search(SearchType.CONTENT, "b", 0, 2);
+        search(SearchType.CONTENT, "c", 0, 3);
+        search(SearchType.CONTENT, "a", 0, 1);  // a 사용 → b가 가장 오래됨
+        search(SearchType.CONTENT, "d", 0, 4);
+        assertThat(cache.size()).isEqualTo(3);
+
+        search(SearchType.CONTENT, "a", 0, 1);
+        search(SearchType.CONTENT, "b", 0, 2);
+        assertThat(loads).hasValue(6);
+    }
+
+    @Test
+    @DisplayName("글 생성/수정: 맞을 수 있는 검색어와 그 글이 든 검색어의 모든 페이지만 제거")
+    void invalidate_on_write() {
+        search(SearchType.CONTENT, "제주", 0, 1);
+        search(SearchType.CONTENT, "제주", 1, 2);
+        search(SearchType.CONTENT, "파스타", 0, 3);
+
+        // 트랜잭션 밖에서 호출하면 바로 반영됨
+        cache.postChanged(doc(9, "제주도 한 달 살기", ""));
+        assertThat(cache.size()).isEqualTo(1);
+
+        search(SearchType.TITLE, "레시피", 0, 3);
+        cache.postChanged(doc(3, "오일 파스타", "마늘"));  // 제목이 바뀌어 더 이상 안 맞아도 글 id로 제거
+        assertThat(cache.size()).isZero();
+        assertThat(registry.get("search.cache.evictions").tag("cause", "write").functionCounter().count())
+                .isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("본문 검색은 토큰이 제목/본문에 나뉘어 있어도, 카테고리는 부분 문자열로도 맞으면 제거")
+    void invalidate_on_write_by_fields() {
+        search(SearchType.CONTENT, "제주 파스타", 0, 1);
+        search(SearchType.CATEGORY, "여", 0, 2);
+        search(SearchType.TITLE, "제주 파스타", 0, 3);
+
+        cache.postChanged(doc(9, "제주 맛집", "생면 파스타"));
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제는 그 글이 든 검색어만, 닉네임 변경은 작성자 검색만 제거")
+    void invalidate_on_remove_and_rename() {
+        search(SearchType.CONTENT, "제주", 0, 1);
+        search(SearchType.CONTENT, "파스타", 0, 3);
+        search(SearchType.AUTHOR, "여행가", 0, 1, 3);
+
+        cache.postRemoved(1);
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.authorChanged();
+        assertThat(cache.size()).isEqualTo(1);
+        search(SearchType.CONTENT, "파스타", 0, 3);
+        assertThat(loads).hasValue(3);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.nasda.service.search;
+
+import com.example.nasda.domain.UserRepository;
+import com.example.nasda.dto.search.SuggestionDto;
+import com.example.nasda.repository.CategoryRepository;
+import com.example.nasda.repository.PostCardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SearchSuggesterTest {
+
+    private SearchSuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        suggester = new SearchSuggester(mock(PostCardRepository.class), mock(UserRepository.class),
+                mock(CategoryRepository.class));
+        // 트랜잭션 밖에서 호출하면 바로 반영됨
+        suggester.nicknameChanged(1, "여행가");
+        suggester.nicknameChanged(2, "요리왕");
+        suggester.postChanged(10, 1, "여행 기록", "여행");
+        suggester.postChanged(11, 1, "여름 바다", "여행");
+        suggester.postChanged(12, 2, "파스타 레시피", "요리");
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자(자모)로도 접두사 매치, 가중치 순")
+    void prefix_by_jamo() {
+        // "여ㅎ" → 여행가(닉네임 1+글 2 = 3), 여행(카테고리 글 2), 여행 기록(제목 1)
+        List<String> found = texts(suggester.suggest("여ㅎ", 10));
+        assertThat(found).containsExactlyInAnyOrder("여행가", "여행", "여행 기록");
+        assertThat(found.get(0)).isEqualTo("여행가");
+        assertThat(found.get(2)).isEqualTo("여행 기록");
+        assertThat(texts(suggester.suggest("여", 10))).contains("여름 바다");
+        assertThat(suggester.suggest("레시", 10)).extracting(SuggestionDto::type).containsExactly("title");
+        // 겹모음/겹받침 낱자도 타자 순서대로
+        assertThat(texts(suggester.suggest("ㅍ", 10))).containsExactly("파스타 레시피");
+    }
+
+    @Test
+    @DisplayName("댓글 수로 제목 가중치가 오름")
+    void comment_weight() {
+        suggester.commentCountChanged(11, 5);
+        assertThat(texts(suggester.suggest("여", 1))).containsExactly("여름 바다");
+    }
+
+    @Test
+    @DisplayName("글 수정/삭제, 닉네임 변경/탈퇴 반영")
+    void updates() {
+        suggester.postChanged(12, 2, "크림 파스타", "요리");
+        assertThat(suggester.suggest("레시", 10)).isEmpty();
+        assertThat(texts(suggester.suggest("파스", 10))).containsExactly("크림 파스타");
+
+        suggester.postRemoved(12);
+        assertThat(suggester.suggest("크림", 10)).isEmpty();
+
+        suggester.nicknameChanged(2, "제빵왕");
+        assertThat(suggester.suggest("요리왕", 10)).isEmpty();
+        assertThat(texts(suggester.suggest("제빵", 10))).containsExactly("제빵왕");
+
+        suggester.userRemoved(2);
+        assertThat(suggester.suggest("제빵", 10)).isEmpty();
+    }
+
+    private static List<String> texts(List<SuggestionDto> suggestions) {
+        return suggestions.stream().map(SuggestionDto::text).toList();
+    }
+}
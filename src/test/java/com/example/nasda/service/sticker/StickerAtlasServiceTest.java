@@ -0,0 +1,164 @@
+package com.example.nasda.service.sticker;
+
+import com.example.nasda.domain.StickerEntity;
+import com.example.nasda.dto.sticker.StickerAtlasDTO;
+import com.example.nasda.repository.sticker.StickerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StickerAtlasServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private StickerRepository stickerRepository;
+    private StickerImageCache stickerImageCache;
+    private StickerAtlasService atlasService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stickerRepository = mock(StickerRepository.class);
+        stickerImageCache = mock(StickerImageCache.class);
+        atlasService = new StickerAtlasService(stickerRepository, stickerImageCache,
+                tempDir.resolve("cache").toString(), 96, Duration.ofMinutes(5), Duration.ofMillis(500));
+
+        // 카테고리 1: 이미지 있는 스티커 3개 + 못 받은 외부 스티커 1개 + 없는 로컬 스티커 1개
+        when(stickerRepository.findByStickerCategory_StickerCategoryId(1)).thenReturn(List.of(
+                sticker(3, "https://emoji.example/3.png"),
+                sticker(1, "https://emoji.example/1.png"),
+                sticker(2, "https://emoji.example/2.png"),
+                sticker(4, "https://emoji.example/missing.png"),
+                sticker(5, "/no/such/sticker.png")));
+        cached(1, Color.RED, 256, 256);
+        cached(2, Color.GREEN, 40, 40);
+        cached(3, Color.BLUE, 300, 150);
+    }
+
+    @AfterEach
+    void tearDown() {
+        atlasService.shutdown();
+    }
+
+    private StickerEntity sticker(int id, String url) {
+        return StickerEntity.builder().stickerId(id).stickerName("s" + id).stickerImageUrl(url).build();
+    }
+
+    private void cached(int id, Color color, int w, int h) throws Exception {
+        BufferedImage image = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, w, h);
+        g.dispose();
+        Path file = tempDir.resolve(id + ".png");
+        ImageIO.write(image, "png", file.toFile());
+        when(stickerImageCache.image(id)).thenReturn(new StickerImageCache.CachedImage(file, id + ".png", "image/png"));
+    }
+
+    @Test
+    @DisplayName("id 순 격자 배치, 이미지 없는 스티커는 좌표 없이 개별 URL")
+    void layout() throws Exception {
+        StickerAtlasDTO atlas = atlasService.getAtlas(1);
+
+        assertThat(atlas.getImageUrl()).matches("/stickers/atlas/[0-9a-f]{64}\\.png");
+        // 3개 → 2열 2행, 칸 96 + 여백 2
+        assertThat(atlas.getWidth()).isEqualTo(194);
+        assertThat(atlas.getHeight()).isEqualTo(194);
+        assertThat(atlas.getSprites()).extracting(StickerAtlasDTO.Sprite::getStickerId).containsExactly(1, 2, 3, 4, 5);
+        assertThat(atlas.getSprites()).extracting(StickerAtlasDTO.Sprite::getX).containsExactly(0, 98, 0, null, null);
+        assertThat(atlas.getSprites()).extracting(StickerAtlasDTO.Sprite::getY).containsExactly(0, 0, 98, null, null);
+        assertThat(atlas.getSprites().get(3).getStickerImageUrl()).isEqualTo("/stickers/img/4");
+
+        BufferedImage sheet = ImageIO.read(atlasService.atlasFile(
+                atlas.getImageUrl().substring(StickerAtlasService.URL_PREFIX.length())).toFile());
+        assertThat(sheet.getWidth()).isEqualTo(194);
+        assertThat(new Color(sheet.getRGB(48, 48), true)).isEqualTo(Color.RED);
+        // 작은 이미지(40px)는 키우지 않고 가운데 → 칸 가장자리는 투명
+        assertThat(new Color(sheet.getRGB(98 + 48, 48), true)).isEqualTo(Color.GREEN);
+        assertThat(sheet.getRGB(98 + 2, 2) >>> 24).isZero();
+    }
+
+    @Test
+    @DisplayName("스티커 추가/삭제된 카테고리만 다시 만들고, 내용이 같으면 URL도 같음")
+    void rebuild_only_changed_category() throws Exception {
+        when(stickerRepository.findByStickerCategory_StickerCategoryId(2)).thenReturn(List.of());
+
+        StickerAtlasDTO first = atlasService.getAtlas(1);
+        atlasService.getAtlas(1);
+        StickerAtlasDTO empty = atlasService.getAtlas(2);
+        verify(stickerRepository, times(1)).findByStickerCategory_StickerCategoryId(1);
+        assertThat(empty.getImageUrl()).isNull();
+
+        atlasService.categoryChanged(2);
+        atlasService.getAtlas(1);
+        atlasService.getAtlas(2);
+        verify(stickerRepository, times(1)).findByStickerCategory_StickerCategoryId(1);
+        verify(stickerRepository, times(2)).findByStickerCategory_StickerCategoryId(2);
+
+        atlasService.categoryChanged(1);
+        StickerAtlasDTO rebuilt = atlasService.getAtlas(1);
+        verify(stickerRepository, times(2)).findByStickerCategory_StickerCategoryId(1);
+        assertThat(rebuilt.getImageUrl()).isEqualTo(first.getImageUrl());
+        assertThat(atlasService.etag(rebuilt)).isEqualTo(atlasService.etag(first));
+    }
+
+    @Test
+    @DisplayName("ETag 는 이미지에 안 들어간 스프라이트의 변경도 반영")
+    void etag_covers_sprites() throws Exception {
+        StickerAtlasDTO first = atlasService.getAtlas(1);
+
+        // 이미지를 못 구한 스티커 4번만 이름이 바뀜 → 아틀라스 PNG 는 같고 JSON 은 다름
+        when(stickerRepository.findByStickerCategory_StickerCategoryId(1)).thenReturn(List.of(
+                sticker(3, "https://emoji.example/3.png"),
+                sticker(1, "https://emoji.example/1.png"),
+                sticker(2, "https://emoji.example/2.png"),
+                StickerEntity.builder().stickerId(4).stickerName("renamed").stickerImageUrl("https://emoji.example/missing.png").build(),
+                sticker(5, "/no/such/sticker.png")));
+        atlasService.categoryChanged(1);
+        StickerAtlasDTO renamed = atlasService.getAtlas(1);
+
+        assertThat(renamed.getImageUrl()).isEqualTo(first.getImageUrl());
+        assertThat(atlasService.etag(renamed)).isNotEqualTo(atlasService.etag(first));
+    }
+
+    @Test
+    @DisplayName("이미지 받기가 기한을 넘으면 그 스티커만 빼고 만듦")
+    void build_deadline() throws Exception {
+        when(stickerRepository.findByStickerCategory_StickerCategoryId(3)).thenReturn(List.of(
+                sticker(1, "https://emoji.example/1.png"),
+                sticker(6, "https://emoji.example/slow.png")));
+        when(stickerImageCache.image(6)).thenAnswer(inv -> {
+            Thread.sleep(10_000);
+            return null;
+        });
+
+        long started = System.nanoTime();
+        StickerAtlasDTO atlas = atlasService.getAtlas(3);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(5));
+        assertThat(atlas.getSprites()).extracting(StickerAtlasDTO.Sprite::getX).containsExactly(0, null);
+    }
+
+    @Test
+    @DisplayName("아틀라스 파일 이름은 해시 형식만")
+    void atlas_file_name() {
+        assertThat(atlasService.atlasFile("../application.properties")).isNull();
+        assertThat(atlasService.atlasFile("a".repeat(64) + ".png")).isNull();
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.nasda.service.sticker;
+
+import com.example.nasda.domain.StickerEntity;
+import com.example.nasda.repository.sticker.StickerRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StickerImageCacheTest {
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n', 1, 2, 3};
+
+    @TempDir
+    Path tempDir;
+
+    // raw.githubusercontent.com 대신 (요청 수를 셈)
+    private HttpServer server;
+    private ExecutorService serverThreads;
+    private final AtomicInteger hits = new AtomicInteger();
+    private String origin;
+
+    private StickerRepository stickerRepository;
+    private StickerImageCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        serverThreads = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverThreads);
+        server.start();
+        origin = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        stickerRepository = mock(StickerRepository.class);
+        cache = new StickerImageCache(stickerRepository, tempDir.resolve("cache").toString(),
+                tempDir.resolve("bundle").toString(), Duration.ofSeconds(5), DataSize.ofKilobytes(1), Duration.ofMinutes(5),
+                "127.0.0.1") {
+            @Override
+            void checkAddress(String host) {
+                // 테스트 서버가 루프백이므로 주소 확인만 건너뜀 (호스트 허용 목록은 그대로)
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        hits.incrementAndGet();
+        String path = exchange.getRequestURI().getPath();
+        if (path.endsWith("missing.png")) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+        if (path.endsWith("redirect.png")) {
+            // 허용되지 않은 호스트(localhost)로 보내는 리다이렉트
+            exchange.getResponseHeaders().add("Location", "http://localhost:" + server.getAddress().getPort() + "/emoji/Smile.png");
+            exchange.sendResponseHeaders(302, -1);
+            return;
+        }
+        if (path.endsWith("page.png")) {
+            // 헤더만 이미지인 HTML
+            byte[] html = "<html>hi</html>".getBytes();
+            exchange.getResponseHeaders().add("Content-Type", "image/png");
+            exchange.sendResponseHeaders(200, html.length);
+            exchange.getResponseBody().write(html);
+            exchange.close();
+            return;
+        }
+        try {
+            Thread.sleep(100); // 동시 요청이 겹치도록
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.getResponseHeaders().add("Content-Type", "image/png");
+        exchange.sendResponseHeaders(200, PNG.length);
+        exchange.getResponseBody().write(PNG);
+        exchange.close();
+    }
+
+    private StickerEntity sticker(int id, String url) {
+        StickerEntity sticker = StickerEntity.builder().stickerId(id).stickerName("s" + id).stickerImageUrl(url).build();
+        when(stickerRepository.findById(id)).thenReturn(Optional.of(sticker));
+        return sticker;
+    }
+
+    @Test
+    @DisplayName("외부 URL만 프록시 주소로 바꿈")
+    void proxy_url() {
+        assertThat(StickerImageCache.proxyUrl(7, "https://raw.githubusercontent.com/a/b%20c.png")).isEqualTo("/stickers/img/7");
+        assertThat(StickerImageCache.proxyUrl(7, "/images/sun.png")).isEqualTo("/images/sun.png");
+        assertThat(StickerImageCache.proxyUrl(null, "https://x/y.png")).isEqualTo("https://x/y.png");
+    }
+
+    @Test
+    @DisplayName("동시 요청도 원본은 한 번만 받고, 이후는 디스크에서")
+    void fetch_once() throws Exception {
+        sticker(1, origin + "/emoji/Smile.png");
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<StickerImageCache.CachedImage>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) results.add(pool.submit(() -> cache.image(1)));
+            for (Future<StickerImageCache.CachedImage> result : results) {
+                assertThat(result.get()).isNotNull();
+                assertThat(Files.readAllBytes(result.get().file())).isEqualTo(PNG);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(cache.image(1).name()).matches("[0-9a-f]{64}\\.png");
+        assertThat(cache.image(1).contentType()).isEqualTo("image/png");
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("받기 실패는 retry-after 동안 다시 요청하지 않음, 로컬/없는 스티커는 null")
+    void failures() throws Exception {
+        sticker(2, origin + "/emoji/missing.png");
+        sticker(3, "/images/sun.png");
+        when(stickerRepository.findById(4)).thenReturn(Optional.empty());
+
+        assertThat(cache.image(2)).isNull();
+        assertThat(cache.image(2)).isNull();
+        assertThat(hits.get()).isEqualTo(1);
+
+        assertThat(cache.image(3)).isNull();
+        assertThat(cache.image(4)).isNull();
+    }
+
+    @Test
+    @DisplayName("기동 시 번들({host}/{path})에서 복사 → 네트워크 요청 없음")
+    void prefetch_from_bundle() throws Exception {
+        String url = origin + "/emoji/Smiling%20Face.png";
+        Path bundled = tempDir.resolve("bundle").resolve("127.0.0.1").resolve("emoji").resolve("Smiling Face.png");
+        Files.createDirectories(bundled.getParent());
+        Files.write(bundled, PNG);
+
+        cache.prefetch(List.of(sticker(5, url), sticker(6, origin + "/emoji/Other.png")));
+
+        StickerImageCache.CachedImage image = cache.image(5);
+        assertThat(Files.readAllBytes(image.file())).isEqualTo(PNG);
+        assertThat(hits.get()).isZero();
+
+        // 번들에 없는 것은 첫 요청 때 받음
+        assertThat(cache.image(6)).isNotNull();
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("허용 목록 밖 호스트, 다른 호스트로의 리다이렉트, 이미지가 아닌 내용은 캐시하지 않음")
+    void rejects_untrusted_sources() throws Exception {
+        sticker(7, "http://localhost:" + server.getAddress().getPort() + "/emoji/Smile.png");
+        sticker(8, origin + "/emoji/redirect.png");
+        sticker(9, origin + "/emoji/page.png");
+
+        assertThat(cache.image(7)).isNull();
+        assertThat(hits.get()).isZero();
+
+        assertThat(cache.image(8)).isNull();
+        assertThat(hits.get()).isEqualTo(1); // 리다이렉트 대상은 요청하지 않음
+
+        assertThat(cache.image(9)).isNull();
+        assertThat(hits.get()).isEqualTo(2);
+        try (var files = Files.list(tempDir.resolve("cache"))) {
+            assertThat(files.filter(f -> f.toString().endsWith(".png"))).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("등록 시 허용 호스트 확인, 기본 주소 확인은 루프백/사설망 거부")
+    void source_and_address_checks() {
+        cache.checkSource("/images/sun.png");
+        cache.checkSource(origin + "/emoji/Smile.png");
+        assertThatThrownBy(() -> cache.checkSource("https://evil.example/a.png"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        StickerImageCache strict = new StickerImageCache(stickerRepository, tempDir.resolve("strict").toString(),
+                tempDir.resolve("bundle").toString(), Duration.ofSeconds(5), DataSize.ofKilobytes(1), Duration.ofMinutes(5),
+                "127.0.0.1");
+        assertThatThrownBy(() -> strict.checkAddress("127.0.0.1")).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> strict.checkAddress("10.0.0.1")).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> strict.checkAddress("169.254.169.254")).isInstanceOf(IOException.class);
+    }
+}
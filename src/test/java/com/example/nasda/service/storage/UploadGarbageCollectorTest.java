@@ -0,0 +1,131 @@
+package com.example.nasda.service.storage;
+
+import com.example.nasda.domain.StoredFileEntity;
+import com.example.nasda.repository.PostImageRepository;
+import com.example.nasda.repository.StoredFileRepository;
+import com.example.nasda.service.FileStorageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UploadGarbageCollectorTest {
+
+    private static final String LIVE = "1".repeat(64);
+    private static final String ORPHAN = "2".repeat(64);
+
+    @TempDir
+    Path uploadDir;
+
+    private StoredFileRepository storedFileRepository;
+    private PostImageRepository postImageRepository;
+    private LocalStorageBackend storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalStorageBackend(uploadDir.toString());
+        storedFileRepository = mock(StoredFileRepository.class);
+        postImageRepository = mock(PostImageRepository.class);
+
+        StoredFileEntity live = mock(StoredFileEntity.class);
+        when(live.getSha256()).thenReturn(LIVE);
+        when(storedFileRepository.findAllById(anyCollection())).thenReturn(List.of(live));
+        when(storedFileRepository.findForUpdate(anyString())).thenReturn(Optional.empty());
+        when(postImageRepository.existsByImageUrlStartingWith("/uploads/0f8fad5b-d9cb-469f-a165-70867728950e."))
+                .thenReturn(true);
+    }
+
+    private UploadGarbageCollector collector(boolean dryRun) {
+        FileStorageService files = new FileStorageService(storage, storedFileRepository, mock(PlatformTransactionManager.class));
+        return new UploadGarbageCollector(storage, storedFileRepository, postImageRepository, files,
+                new SimpleMeterRegistry(), true, dryRun, Duration.ofHours(1), Duration.ofHours(24), 100_000);
+    }
+
+    private Path put(String relative, int size, Duration age) throws Exception {
+        Path file = uploadDir.resolve(relative);
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[size]);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(age)));
+        return file;
+    }
+
+    @Test
+    @DisplayName("참조 없는 오래된 파일(원본/썸네일/예전 UUID)과 임시 파일만 삭제")
+    void collect() throws Exception {
+        Path live = put("11/11/" + LIVE + ".png", 10, Duration.ofDays(3));
+        Path liveThumb = put("11/11/" + LIVE + "_w400.jpg", 10, Duration.ofDays(3));
+        Path orphan = put("22/22/" + ORPHAN + ".png", 100, Duration.ofDays(3));
+        Path orphanThumb = put("22/22/" + ORPHAN + "_w400.jpg", 20, Duration.ofDays(3));
+        Path young = put("33/33/" + "3".repeat(64) + ".png", 10, Duration.ofMinutes(5));
+        Path legacyLive = put("0f8fad5b-d9cb-469f-a165-70867728950e_w1080.jpg", 10, Duration.ofDays(3));
+        Path legacyOrphan = put("7c9e6679-7425-40de-944b-e07fc1f90ae7.JPG", 30, Duration.ofDays(3));
+        Path temp = put(".upload-123.tmp", 40, Duration.ofDays(3));
+
+        UploadGarbageCollector.Report report = collector(false).collect();
+
+        assertThat(live).exists();
+        assertThat(liveThumb).exists();
+        assertThat(young).exists();
+        assertThat(legacyLive).exists();
+        assertThat(orphan).doesNotExist();
+        assertThat(orphanThumb).doesNotExist();
+        assertThat(legacyOrphan).doesNotExist();
+        assertThat(temp).doesNotExist();
+        assertThat(report).isEqualTo(new UploadGarbageCollector.Report(8, 1, 3, 3, 3, 190, 1));
+    }
+
+    @Test
+    @DisplayName("예전 UUID 원본은 묶음당 IN 한 번, 그 썸네일은 원본 결과를 따라 추가 조회 없음")
+    void legacy_batch_check() throws Exception {
+        String base = "6fa459ea-ee8a-3ca4-894e-db77e160355e";
+        Path original = put(base + ".png", 10, Duration.ofDays(3));
+        Path card = put(base + "_w400.jpg", 10, Duration.ofDays(3));
+        Path view = put(base + "_w1080.jpg", 10, Duration.ofDays(3));
+        when(postImageRepository.findImageUrlsIn(anyCollection())).thenReturn(List.of("/uploads/" + base + ".png"));
+
+        UploadGarbageCollector.Report report = collector(false).collect();
+
+        assertThat(original).exists();
+        assertThat(card).exists();
+        assertThat(view).exists();
+        assertThat(report.live()).isEqualTo(3);
+        verify(postImageRepository, times(1)).findImageUrlsIn(List.of("/uploads/" + base + ".png"));
+        verify(postImageRepository, never()).existsByImageUrlStartingWith(anyString());
+    }
+
+    @Test
+    @DisplayName("dry-run은 세기만 하고 지우지 않음, 잠금 확인에서 행이 보이면 유지")
+    void dry_run_and_recheck() throws Exception {
+        Path orphan = put("22/22/" + ORPHAN + ".png", 100, Duration.ofDays(3));
+
+        UploadGarbageCollector.Report dry = collector(true).collect();
+        assertThat(dry.orphans()).isEqualTo(1);
+        assertThat(dry.deleted()).isZero();
+        assertThat(orphan).exists();
+
+        // 같은 내용이 지금 다시 올라오는 중 → 잠금 후 행이 보임
+        when(storedFileRepository.findForUpdate(ORPHAN)).thenReturn(Optional.of(mock(StoredFileEntity.class)));
+        UploadGarbageCollector.Report report = collector(false).collect();
+        assertThat(report.deleted()).isZero();
+        assertThat(orphan).exists();
+    }
+}